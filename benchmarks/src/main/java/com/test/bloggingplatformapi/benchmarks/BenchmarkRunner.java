@@ -0,0 +1,54 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Entry point of benchmarks.jar: the standard JMH command line, with the gc profiler always on
+ * (gc.alloc.rate.norm is the bytes allocated per operation) and results written as JSON
+ * to jmh-result.json unless -rf/-rff say otherwise.
+ * The stored document size of each ContentCompressionBenchmark case that ran is printed after the results.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        printStoredSizes(new Runner(options.build()).run());
+    }
+
+    private static void printStoredSizes(Collection<RunResult> results) {
+        final Set<String> lines = new LinkedHashSet<>();
+        for (RunResult result : results) {
+            final BenchmarkParams params = result.getParams();
+            if (params.getBenchmark().startsWith(ContentCompressionBenchmark.class.getName() + ".")) {
+                final int contentSize = Integer.parseInt(params.getParam("contentSize"));
+                final boolean compression = Boolean.parseBoolean(params.getParam("compression"));
+                lines.add(String.format("ContentCompressionBenchmark contentSize=%d compression=%b: stored document is %d bytes",
+                        contentSize, compression, ContentCompressionBenchmark.storedSize(contentSize, compression)));
+            }
+        }
+        lines.forEach(System.out::println);
+    }
+}
@@ -0,0 +1,66 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.ObjStatus;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic blog data for the benchmarks.
+ */
+final class BlogFixtures {
+    static final String[] WORDS = {
+            "spring", "mongo", "index", "cache", "latency", "thread", "query", "cursor",
+            "stream", "java", "search", "page", "heap", "batch", "write", "read"
+    };
+
+    private BlogFixtures() {
+    }
+
+    static List<Blog> blogs(int count, int contentSize) {
+        final Random random = new Random(42);
+        final LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        final List<Blog> blogs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            blogs.add(Blog.builder()
+                    .id(new ObjectId().toHexString())
+                    .title(words(random, 6))
+                    .content(content(random, contentSize))
+                    .category(Category.values()[i % Category.values().length])
+                    .tags(Set.of(Tag.values()[i % Tag.values().length]))
+                    .createdAt(start.plusMinutes(i))
+                    .updatedAt(start.plusMinutes(i + 1L))
+                    .objStatus(ObjStatus.ACTIVE)
+                    .version(0L)
+                    .build());
+        }
+        return blogs;
+    }
+
+    static String content(Random random, int size) {
+        final StringBuilder content = new StringBuilder(size + 16);
+        while (content.length() < size) {
+            content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        content.setLength(size);
+        return content.toString();
+    }
+
+    private static String words(Random random, int count) {
+        final StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return words.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.config.MongoConversionConfig;
+import com.test.bloggingplatformapi.converter.BlogContentConverter;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a blog to and from its stored document with blog.content-compression off and on,
+ * through the same MappingMongoConverter setup as the application.
+ * The stored document size of each case is reported by BenchmarkRunner after the run, see storedSize.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentCompressionBenchmark {
+
+    @Param({"1024", "16384", "65536"})
+    private int contentSize;
+
+    @Param({"false", "true"})
+    private boolean compression;
+
+    private MappingMongoConverter converter;
+    private Blog blog;
+    private Document stored;
+
+    @Setup
+    public void setUp() {
+        converter = converter(compression);
+        blog = BlogFixtures.blogs(1, contentSize).get(0);
+        stored = write();
+    }
+
+    /**
+     * Size of the stored document of a case, reported by BenchmarkRunner next to its scores.
+     *
+     * @param contentSize - Content size parameter of the case.
+     * @param compression - Compression parameter of the case.
+     * @return int - BSON size in bytes of the blog as stored.
+     */
+    static int storedSize(int contentSize, boolean compression) {
+        final Document document = new Document();
+        converter(compression).write(BlogFixtures.blogs(1, contentSize).get(0), document);
+        return new RawBsonDocument(document, new DocumentCodec()).getByteBuffer().remaining();
+    }
+
+    private static MappingMongoConverter converter(boolean compression) {
+        final BlogProperties blogProperties = new BlogProperties();
+        blogProperties.getContentCompression().setEnabled(compression);
+
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("blogContentConverter", new BlogContentConverter(blogProperties));
+        final MongoCustomConversions conversions = new MongoConversionConfig().mongoCustomConversions(beanFactory);
+
+        final MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        final MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    /**
+     * The insert/update path: entity to the document sent to Mongo.
+     */
+    @Benchmark
+    public Document write() {
+        final Document document = new Document();
+        converter.write(blog, document);
+        return document;
+    }
+
+    /**
+     * The read path: stored document to entity, decompressing the content when it is compressed.
+     */
+    @Benchmark
+    public Blog read() {
+        return converter.read(Blog.class, stored);
+    }
+}
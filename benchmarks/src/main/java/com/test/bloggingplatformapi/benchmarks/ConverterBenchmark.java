@@ -0,0 +1,52 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import com.test.bloggingplatformapi.converter.BlogConverter;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO conversion, per blog and for a whole result list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int count;
+
+    private List<Blog> blogs;
+
+    @Setup
+    public void setUp() {
+        blogs = BlogFixtures.blogs(count, 2048);
+    }
+
+    @Benchmark
+    public BlogRes covertToDto() {
+        return BlogConverter.covertToDto(blogs.get(0));
+    }
+
+    @Benchmark
+    public Set<BlogRes> convertToDtoList() {
+        return BlogConverter.convertToDtoList(blogs);
+    }
+}
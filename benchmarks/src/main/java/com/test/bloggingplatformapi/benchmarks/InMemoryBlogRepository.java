@@ -0,0 +1,81 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.enums.ObjStatus;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * BlogRepository stand-in over a map, so service benchmarks measure the service and not Mongo.
+ * Implemented as a dynamic proxy because BlogRepository inherits dozens of MongoRepository methods;
+ * only the methods the benchmarked paths call are supported: findBlogActiveById, findStampById, findAllActive
+ * and searchByText.
+ */
+final class InMemoryBlogRepository {
+
+    private InMemoryBlogRepository() {
+    }
+
+    static BlogRepository of(List<Blog> blogs) {
+        final Map<String, Blog> byId = blogs.stream()
+                .collect(Collectors.toMap(Blog::getId, Function.identity()));
+
+        return InMemoryProxy.of(BlogRepository.class, "InMemoryBlogRepository", Map.of(
+                "findBlogActiveById", args -> active(byId.get((String) args[0])),
+                "findStampById", args -> active(byId.get((String) args[0]))
+                        .map(blog -> new BlogStamp(blog.getId(), blog.getUpdatedAt())),
+                "findAllActive", args -> blogs.stream().filter(InMemoryBlogRepository::isActive).toList(),
+                "searchByText", args -> searchByText(blogs, (String) args[0], (Pageable) args[1])));
+    }
+
+    private static Optional<Blog> active(Blog blog) {
+        return Optional.ofNullable(blog).filter(InMemoryBlogRepository::isActive);
+    }
+
+    private static boolean isActive(Blog blog) {
+        return blog.getObjStatus() == ObjStatus.ACTIVE;
+    }
+
+    /**
+     * Any-word match on title and content, like a $text query without stemming.
+     */
+    private static Page<Blog> searchByText(List<Blog> blogs, String text, Pageable pageable) {
+        final List<String> words = Arrays.stream(text.toLowerCase(Locale.ROOT).split("\\s+")).toList();
+        final List<Blog> matches = blogs.stream()
+                .filter(InMemoryBlogRepository::isActive)
+                .filter(blog -> words.stream().anyMatch(word ->
+                        blog.getTitle().contains(word) || blog.getContent().contains(word)))
+                .sorted(comparator(pageable.getSort()))
+                .toList();
+
+        final int from = (int) Math.min(pageable.getOffset(), matches.size());
+        final int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+    }
+
+    private static Comparator<Blog> comparator(Sort sort) {
+        Comparator<Blog> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Blog> field = switch (order.getProperty()) {
+                case "title" -> Comparator.comparing(Blog::getTitle);
+                case "updatedAt" -> Comparator.comparing(Blog::getUpdatedAt);
+                default -> Comparator.comparing(Blog::getCreatedAt);
+            };
+            comparator = comparator.thenComparing(order.isAscending() ? field : field.reversed());
+        }
+        return comparator;
+    }
+}
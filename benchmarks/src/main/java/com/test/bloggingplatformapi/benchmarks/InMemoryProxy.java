@@ -0,0 +1,54 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the in-memory repository stand-ins: a dynamic proxy answering only the methods given, by name.
+ * A name the interface does not declare fails the build of the proxy, in the benchmark setup, so a renamed
+ * repository method is caught before anything is measured.
+ */
+final class InMemoryProxy {
+
+    private InMemoryProxy() {
+    }
+
+    /**
+     * @param type - Repository interface to implement.
+     * @param name - Name of the stand-in, used by toString and in errors.
+     * @param methods - Supported methods by name, each taking the call arguments.
+     * @return T - The stand-in; any other method throws UnsupportedOperationException naming the supported ones.
+     */
+    static <T> T of(Class<T> type, String name, Map<String, Function<Object[], Object>> methods) {
+        final Set<String> declared = Arrays.stream(type.getMethods())
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+        final Set<String> unknown = new TreeSet<>(methods.keySet());
+        unknown.removeAll(declared);
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException(name + " supports methods " + type.getSimpleName()
+                    + " does not declare: " + unknown);
+        }
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> name;
+                    default -> {
+                        final Function<Object[], Object> handler = methods.get(method.getName());
+                        if (handler == null) {
+                            throw new UnsupportedOperationException(name + " does not support " + method.getName()
+                                    + ", only " + new TreeSet<>(methods.keySet()));
+                        }
+                        yield handler.apply(args);
+                    }
+                }));
+    }
+}
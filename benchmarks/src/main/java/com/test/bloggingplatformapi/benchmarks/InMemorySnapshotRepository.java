@@ -0,0 +1,32 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.repository.BlogSnapshotRepository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BlogSnapshotRepository stand-in over a map, for the service benchmarks; see InMemoryBlogRepository.
+ * Supports findById and saveAllIfNewer.
+ */
+final class InMemorySnapshotRepository {
+
+    private InMemorySnapshotRepository() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static BlogSnapshotRepository empty() {
+        final Map<String, BlogSnapshot> byId = new ConcurrentHashMap<>();
+
+        return InMemoryProxy.of(BlogSnapshotRepository.class, "InMemorySnapshotRepository", Map.of(
+                "findById", args -> Optional.ofNullable(byId.get((String) args[0])),
+                "saveAllIfNewer", args -> {
+                    final Collection<BlogSnapshot> snapshots = (Collection<BlogSnapshot>) args[0];
+                    snapshots.forEach(snapshot -> byId.put(snapshot.getId(), snapshot));
+                    return snapshots.size();
+                }));
+    }
+}
@@ -0,0 +1,104 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import com.test.bloggingplatformapi.cache.SearchKey;
+import com.test.bloggingplatformapi.converter.BlogConverter;
+import com.test.bloggingplatformapi.converter.BlogFieldsConverter;
+import com.test.bloggingplatformapi.converter.BlogStampConverter;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.repository.BlogQueries;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The CPU work of GET /blogs/search outside of Mongo: parsing the request, building and mapping
+ * the query, reading the result documents into entities and computing the page ETag.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchPathBenchmark {
+
+    private MappingMongoConverter converter;
+    private QueryMapper queryMapper;
+    private MongoPersistentEntity<?> entity;
+    private List<Document> documents;
+    private Set<BlogRes> page;
+
+    @Setup
+    public void setUp() {
+        final MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+        queryMapper = new QueryMapper(converter);
+        entity = mappingContext.getRequiredPersistentEntity(Blog.class);
+
+        final List<Blog> blogs = BlogFixtures.blogs(10, 2048);
+        documents = blogs.stream()
+                .map(blog -> {
+                    final Document document = new Document();
+                    converter.write(blog, document);
+                    return document;
+                })
+                .toList();
+        page = blogs.stream()
+                .map(BlogConverter::covertToDto)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Benchmark
+    public SearchKey parseRequest() {
+        final BlogFields fields = BlogFieldsConverter.parse("title,category,tags", 200);
+        return SearchKey.of("Cache Latency", 0, 10, "title", "asc", fields.key());
+    }
+
+    @Benchmark
+    public Document buildAndMapQuery() {
+        final Query query = BlogQueries.project(
+                BlogQueries.textSearch("cache latency", PageRequest.of(0, 10, Sort.by("title")), false),
+                BlogFields.ALL);
+        return queryMapper.getMappedObject(query.getQueryObject(), entity);
+    }
+
+    @Benchmark
+    public List<Blog> readPageOf10() {
+        return documents.stream()
+                .map(document -> converter.read(Blog.class, document))
+                .toList();
+    }
+
+    @Benchmark
+    public String pageETag() {
+        return BlogStampConverter.pageETag(page, 100, BlogFields.ALL.key());
+    }
+}
@@ -0,0 +1,80 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.bloggingplatformapi.converter.BlogConverter;
+import com.test.bloggingplatformapi.converter.BlogStreamWriter;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.PageRes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the response DTOs at different content sizes, with the ObjectMapper
+ * configured the way Spring Boot configures it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"256", "4096", "65536"})
+    private int contentSize;
+
+    private ObjectMapper objectMapper;
+    private BlogStreamWriter streamWriter;
+    private BlogRes blog;
+    private PageRes<BlogRes> page;
+    private List<BlogRes> list;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        streamWriter = new BlogStreamWriter(objectMapper);
+        list = BlogFixtures.blogs(100, contentSize).stream().map(BlogConverter::covertToDto).toList();
+        blog = list.get(0);
+        page = new PageRes<>(new LinkedHashSet<>(list.subList(0, 10)), 0, 10, list.size(), 10, false);
+    }
+
+    @Benchmark
+    public byte[] blogRes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(blog);
+    }
+
+    @Benchmark
+    public byte[] pageResOf10() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    /**
+     * The GET /blogs path: 100 blogs written one by one to the response stream.
+     */
+    @Benchmark
+    public void streamJsonArrayOf100() throws IOException {
+        streamWriter.writeJsonArray(OutputStream.nullOutputStream(), consumer -> list.forEach(consumer));
+    }
+
+    @Benchmark
+    public void streamNdJsonOf100() throws IOException {
+        streamWriter.writeNdJson(OutputStream.nullOutputStream(), consumer -> list.forEach(consumer));
+    }
+}
@@ -0,0 +1,179 @@
+package com.test.bloggingplatformapi.benchmarks;
+
+import com.test.bloggingplatformapi.cache.BlogCache;
+import com.test.bloggingplatformapi.cache.RequestCoalescer;
+import com.test.bloggingplatformapi.cache.SendBufferPool;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.PageRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import com.test.bloggingplatformapi.service.BlogService;
+import com.test.bloggingplatformapi.service.impl.BlogFacetServiceImpl;
+import com.test.bloggingplatformapi.service.impl.BlogOutboxServiceImpl;
+import com.test.bloggingplatformapi.service.impl.BlogServiceImpl;
+import com.test.bloggingplatformapi.service.impl.BlogSnapshotServiceImpl;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BlogServiceImpl against the in-memory repository: what the service itself costs per request
+ * (cache, coalescing, conversion, snapshots), without Mongo latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Service {
+        BlogService blogService;
+        BlogCache blogCache;
+        List<String> ids;
+
+        @Setup
+        public void setUp() {
+            final List<Blog> blogs = BlogFixtures.blogs(10_000, 2048);
+            final BlogProperties properties = new BlogProperties();
+            blogCache = new BlogCache(properties);
+            blogService = service(blogs, properties, blogCache);
+            ids = blogs.stream().limit(1000).map(Blog::getId).toList();
+        }
+    }
+
+    /**
+     * 16KB blogs, larger than Tomcat's 8KB response buffer, and the send buffers the controller copies them into.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeService {
+        BlogService blogService;
+        SendBufferPool sendBuffers;
+        List<String> ids;
+
+        @Setup
+        public void setUp() {
+            final List<Blog> blogs = BlogFixtures.blogs(1000, 16 * 1024);
+            final BlogProperties properties = new BlogProperties();
+            blogService = service(blogs, properties, new BlogCache(properties));
+            sendBuffers = new SendBufferPool(properties.getCache().getSendBuffers());
+            ids = blogs.stream().map(Blog::getId).toList();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+        byte[] copy;
+        int length;
+
+        String nextId(Service service) {
+            return nextId(service.ids);
+        }
+
+        String nextId(List<String> ids) {
+            next = (next + 1) % ids.size();
+            return ids.get(next);
+        }
+    }
+
+    private static BlogService service(List<Blog> blogs, BlogProperties properties, BlogCache blogCache) {
+        final BlogRepository repository = InMemoryBlogRepository.of(blogs);
+        final BlogFacetServiceImpl facetService = new BlogFacetServiceImpl(repository, null, properties);
+        final BlogSnapshotServiceImpl snapshotService = new BlogSnapshotServiceImpl(
+                InMemorySnapshotRepository.empty(), repository, Jackson2ObjectMapperBuilder.json().build());
+        return new BlogServiceImpl(
+                repository,
+                properties,
+                blogCache,
+                new RequestCoalescer<>(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                facetService,
+                snapshotService,
+                // Outbox disabled: writes run their side effects inline, without a transaction
+                new BlogOutboxServiceImpl(null, snapshotService, null, facetService, event -> { }, properties,
+                        new DefaultListableBeanFactory().getBeanProvider(MongoTransactionManager.class)));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BlogSnapshot getBlogSnapshotCacheHit(Service service, Cursor cursor) {
+        return service.blogService.getBlogSnapshot(cursor.nextId(service));
+    }
+
+    /**
+     * The GET /blogs/{id} path on a hit: the JSON is handed over as a view of the off-heap memory, not copied.
+     */
+    @Benchmark
+    @Threads(4)
+    public void sendBlogSnapshotCacheHit(Service service, Cursor cursor, Blackhole blackhole) throws IOException {
+        service.blogService.sendBlogSnapshot(cursor.nextId(service),
+                (stamp, json) -> blackhole.consume(json.get(json.limit() - 1)));
+    }
+
+    /**
+     * The GET /blogs/{id} path on a hit for a snapshot larger than the response buffer: copied into a pooled send
+     * buffer and consumed once the cache memory is released, as SnapshotResponseWriter does.
+     */
+    @Benchmark
+    @Threads(4)
+    public void sendLargeBlogSnapshotCacheHit(LargeService service, Cursor cursor, Blackhole blackhole) throws IOException {
+        service.blogService.sendBlogSnapshot(cursor.nextId(service.ids), (stamp, json) -> {
+            cursor.length = json.remaining();
+            cursor.copy = service.sendBuffers.acquire(cursor.length);
+            json.get(cursor.copy, 0, cursor.length);
+        });
+        blackhole.consume(cursor.copy[cursor.length - 1]);
+        service.sendBuffers.release(cursor.copy);
+    }
+
+    /**
+     * A miss served by a stored snapshot: no conversion or serialization, only the repository read.
+     */
+    @Benchmark
+    public BlogSnapshot getBlogSnapshotCacheMiss(Service service, Cursor cursor) {
+        final String id = cursor.nextId(service);
+        service.blogCache.invalidate(id);
+        return service.blogService.getBlogSnapshot(id);
+    }
+
+    /**
+     * What every read cost before snapshots: read, convert to DTO.
+     */
+    @Benchmark
+    public BlogRes getBlogById(Service service, Cursor cursor) {
+        return service.blogService.getBlogById(cursor.nextId(service));
+    }
+
+    @Benchmark
+    public PageRes<BlogRes> searchBlogsByTitle(Service service) {
+        return service.blogService.searchBlogsByTitle("cache latency", 0, 10, "title", "asc", BlogFields.ALL);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public PageRes<BlogRes> searchBlogsByTitleConcurrent(Service service) {
+        return service.blogService.searchBlogsByTitle("cache latency", 0, 10, "title", "asc", BlogFields.ALL);
+    }
+}
@@ -0,0 +1,148 @@
+package com.test.bloggingplatformapi.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blocking calls to the blog API. The load methods return the HTTP status, or 0 if the call failed
+ * without a response (refused connection, timeout), so a failing server shows up in the report instead
+ * of stopping the run.
+ */
+final class BlogApiClient {
+    private static final String BLOGS = "/api/v1/blogs";
+    private static final String JSON = "application/json";
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final URI baseUrl;
+
+    BlogApiClient(URI baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Creates the blogs in one bulk request.
+     *
+     * @return List<String> - IDs of the blogs created.
+     */
+    List<String> createAll(List<Map<String, Object>> blogs) throws IOException, InterruptedException {
+        final HttpResponse<byte[]> response = http.send(
+                request(BLOGS + "/bulk").POST(body(blogs)).header("Content-Type", JSON).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        requireSuccess("POST " + BLOGS + "/bulk", response);
+        final List<String> ids = new ArrayList<>(blogs.size());
+        for (JsonNode item : mapper.readTree(response.body()).path("items")) {
+            if ("CREATED".equals(item.path("status").asText())) {
+                ids.add(item.path("id").asText());
+            }
+        }
+        return ids;
+    }
+
+    void deleteAll(List<String> ids) throws IOException, InterruptedException {
+        final HttpResponse<Void> response = http.send(
+                request(BLOGS + "/bulk").method("DELETE", body(ids)).header("Content-Type", JSON).build(),
+                HttpResponse.BodyHandlers.discarding());
+        requireSuccess("DELETE " + BLOGS + "/bulk", response);
+    }
+
+    int list() {
+        return send(request(BLOGS).GET().build());
+    }
+
+    int get(String id) {
+        return send(request(BLOGS + "/" + id).GET().build());
+    }
+
+    int search(String title) {
+        return send(request(BLOGS + "/search?size=10&title=" + URLEncoder.encode(title, StandardCharsets.UTF_8))
+                .GET().build());
+    }
+
+    int update(String id, Map<String, Object> blog) {
+        return send(request(BLOGS + "/" + id).PUT(body(blog)).header("Content-Type", JSON).build());
+    }
+
+    int patch(String id, Map<String, Object> changes) {
+        return send(request(BLOGS + "/" + id).method("PATCH", body(changes))
+                .header("Content-Type", MERGE_PATCH_JSON).build());
+    }
+
+    int delete(String id) {
+        return send(request(BLOGS + "/" + id).DELETE().build());
+    }
+
+    /**
+     * Creates one blog.
+     *
+     * @return Created - The status, and the ID of the blog if it was created.
+     */
+    Created create(Map<String, Object> blog) {
+        try {
+            final HttpResponse<byte[]> response = http.send(
+                    request(BLOGS).POST(body(blog)).header("Content-Type", JSON).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                return new Created(response.statusCode(), null);
+            }
+            return new Created(response.statusCode(), mapper.readTree(response.body()).path("id").asText(null));
+        } catch (IOException ex) {
+            return new Created(0, null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new Created(0, null);
+        }
+    }
+
+    record Created(int status, String id) {
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            return 0;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).header("Accept", JSON);
+    }
+
+    private HttpRequest.BodyPublisher body(Object value) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void requireSuccess(String call, HttpResponse<?> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(call + " returned " + response.statusCode());
+        }
+    }
+}
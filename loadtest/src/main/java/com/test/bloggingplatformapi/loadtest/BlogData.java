@@ -0,0 +1,62 @@
+package com.test.bloggingplatformapi.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Request bodies of generated blogs. Titles and content come from a small vocabulary,
+ * so every search term matches a share of the seeded blogs.
+ */
+final class BlogData {
+    static final String[] WORDS = {
+            "spring", "mongo", "index", "cache", "latency", "thread", "query", "cursor",
+            "stream", "java", "search", "page", "heap", "batch", "write", "read"
+    };
+    private static final String[] CATEGORIES = {"TECHNICAL", "EDUCATION", "SPORT"};
+    private static final String[] TAGS = {"TECH", "PROGRAMMING"};
+
+    private BlogData() {
+    }
+
+    static Map<String, Object> blog(Random random, int contentSize) {
+        final Map<String, Object> blog = new LinkedHashMap<>();
+        blog.put("title", words(random, 6));
+        blog.put("content", content(random, contentSize));
+        blog.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        blog.put("tags", List.of(TAGS[random.nextInt(TAGS.length)]));
+        return blog;
+    }
+
+    /**
+     * Body of an application/merge-patch+json request changing the title only.
+     */
+    static Map<String, Object> titlePatch(Random random) {
+        return Map.of("title", words(random, 6));
+    }
+
+    static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String content(Random random, int size) {
+        final StringBuilder content = new StringBuilder(size + 16);
+        while (content.length() < size) {
+            content.append(word(random)).append(' ');
+        }
+        content.setLength(size);
+        return content.toString().trim();
+    }
+
+    private static String words(Random random, int count) {
+        final StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(word(random));
+        }
+        return words.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.test.bloggingplatformapi.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * IDs of the live blogs the workers pick from. Deletes take an ID out so it is not read again,
+ * creates add theirs.
+ */
+final class IdPool {
+    private final List<String> ids = new ArrayList<>();
+
+    synchronized void add(String id) {
+        ids.add(id);
+    }
+
+    synchronized void addAll(List<String> newIds) {
+        ids.addAll(newIds);
+    }
+
+    /**
+     * @return String - A random ID, null if the pool is empty.
+     */
+    synchronized String pick(Random random) {
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+
+    /**
+     * Removes and returns a random ID.
+     *
+     * @return String - The ID, null if the pool is empty.
+     */
+    synchronized String take(Random random) {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        final int index = random.nextInt(ids.size());
+        final String last = ids.remove(ids.size() - 1);
+        if (index == ids.size()) {
+            return last;
+        }
+        return ids.set(index, last);
+    }
+
+    synchronized List<String> snapshot() {
+        return List.copyOf(ids);
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,196 @@
+package com.test.bloggingplatformapi.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToIntFunction;
+
+/**
+ * Entry point of loadtest.jar. Seeds blogs through the bulk endpoint, runs the operation mix unmeasured
+ * for the warm-up, then measured for the duration, and writes the report.
+ * <p>
+ * Each worker keeps one request in flight. With --rate the workers follow a fixed schedule and latency is
+ * measured from the time a request was due, not the time it was sent, so a stalled server is charged for
+ * the requests it held back (no coordinated omission). Without --rate the workers send as fast as
+ * responses come back and the report shows the saturation throughput.
+ */
+public final class LoadTest {
+    private static final int BULK_CHUNK = 500;
+
+    private final LoadTestConfig config;
+    private final BlogApiClient client;
+    private final IdPool ids = new IdPool();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.client = new BlogApiClient(config.baseUrl());
+        this.operations = config.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += config.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+            stats.put(operations[i], new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (List.of(args).contains("--help")) {
+            System.out.print(LoadTestConfig.USAGE);
+            return;
+        }
+        final LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(LoadTestConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+        new LoadTest(config).run();
+    }
+
+    private void run() throws Exception {
+        seed();
+        final Instant startedAt = Instant.now();
+        final ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        try {
+            if (!config.warmup().isZero()) {
+                System.out.println("Warming up for " + config.warmup());
+                runPhase(workers, config.warmup(), 0);
+                stats.values().forEach(EndpointStats::reset);
+            }
+            System.out.println("Measuring for " + config.duration());
+            final long start = System.nanoTime();
+            runPhase(workers, config.duration(), 1);
+            final Duration measured = Duration.ofNanos(System.nanoTime() - start);
+
+            final Report report = new Report(config, startedAt, measured, stats);
+            report.write();
+            report.print(System.out);
+        } finally {
+            workers.shutdownNow();
+            if (config.cleanup()) {
+                cleanup();
+            }
+        }
+    }
+
+    private void seed() throws Exception {
+        if (config.seed() == 0) {
+            return;
+        }
+        System.out.println("Seeding " + config.seed() + " blogs into " + config.baseUrl());
+        final Random random = new Random(config.randomSeed());
+        for (int created = 0; created < config.seed(); created += BULK_CHUNK) {
+            final List<Map<String, Object>> blogs = new ArrayList<>();
+            for (int i = created; i < Math.min(config.seed(), created + BULK_CHUNK); i++) {
+                blogs.add(BlogData.blog(random, config.contentSize()));
+            }
+            ids.addAll(client.createAll(blogs));
+        }
+        if (ids.size() < config.seed()) {
+            throw new IllegalStateException("Only " + ids.size() + " of " + config.seed() + " blogs were created");
+        }
+    }
+
+    private void cleanup() throws Exception {
+        final List<String> remaining = ids.snapshot();
+        System.out.println("Deleting " + remaining.size() + " blogs");
+        for (int i = 0; i < remaining.size(); i += BULK_CHUNK) {
+            client.deleteAll(remaining.subList(i, Math.min(remaining.size(), i + BULK_CHUNK)));
+        }
+    }
+
+    private void runPhase(ExecutorService workers, Duration length, int phase) throws Exception {
+        final long end = System.nanoTime() + length.toNanos();
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int worker = 0; worker < config.concurrency(); worker++) {
+            final Random random = new Random(config.randomSeed() * 31 + phase * 100_003L + worker);
+            tasks.add(() -> {
+                work(random, end);
+                return null;
+            });
+        }
+        for (Future<Void> result : workers.invokeAll(tasks)) {
+            result.get();
+        }
+    }
+
+    private void work(Random random, long end) {
+        // Each worker sends its share of the target rate, evenly spaced.
+        final long interval = config.rate() == 0 ? 0 : TimeUnit.SECONDS.toNanos(config.concurrency()) / config.rate();
+        long due = System.nanoTime();
+        while (due < end && System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+            if (interval > 0) {
+                final long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                due = System.nanoTime();
+            }
+            final Operation operation = next(random);
+            final int status = execute(operation, random);
+            if (status < 0) {
+                stats.get(operation).skip();
+            } else {
+                stats.get(operation).record(status, System.nanoTime() - due);
+            }
+            due = interval > 0 ? due + interval : System.nanoTime();
+        }
+    }
+
+    private Operation next(Random random) {
+        final int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * @return int - The HTTP status, 0 if the call failed without one, -1 if it was skipped for want of an ID.
+     */
+    private int execute(Operation operation, Random random) {
+        return switch (operation) {
+            case LIST -> client.list();
+            case SEARCH -> client.search(BlogData.word(random));
+            case CREATE -> {
+                final BlogApiClient.Created created = client.create(BlogData.blog(random, config.contentSize()));
+                if (created.id() != null) {
+                    ids.add(created.id());
+                }
+                yield created.status();
+            }
+            case GET -> withId(random, id -> client.get(id));
+            case UPDATE -> withId(random, id -> client.update(id, BlogData.blog(random, config.contentSize())));
+            case PATCH -> withId(random, id -> client.patch(id, BlogData.titlePatch(random)));
+            case DELETE -> {
+                final String id = ids.take(random);
+                yield id == null ? -1 : client.delete(id);
+            }
+        };
+    }
+
+    private int withId(Random random, ToIntFunction<String> call) {
+        final String id = ids.pick(random);
+        return id == null ? -1 : call.applyAsInt(id);
+    }
+}
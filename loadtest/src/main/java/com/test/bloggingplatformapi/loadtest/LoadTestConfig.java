@@ -0,0 +1,153 @@
+package com.test.bloggingplatformapi.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Command line options of the load test.
+ *
+ * @param baseUrl - Root URL of the running API.
+ * @param seed - Number of blogs created through the bulk endpoint before the run.
+ * @param concurrency - Number of workers, each with one request in flight.
+ * @param rate - Target requests per second over all workers, 0 to send as fast as responses come back.
+ * @param warmup - Time run before measuring, to let the JIT, caches and connection pools settle.
+ * @param duration - Measured time.
+ * @param mix - Relative weight of each operation.
+ * @param contentSize - Size in characters of the content of created and updated blogs.
+ * @param randomSeed - Seed of the generated data and of each worker's sequence of operations.
+ * @param report - File the JSON report is written to.
+ * @param cleanup - Delete the seeded and created blogs at the end.
+ */
+record LoadTestConfig(
+        URI baseUrl,
+        int seed,
+        int concurrency,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int contentSize,
+        long randomSeed,
+        Path report,
+        boolean cleanup
+) {
+
+    static final String USAGE = """
+            Usage: java -jar loadtest.jar [options]
+              --base-url <url>        API root (default http://localhost:8080)
+              --seed <n>              blogs created before the run (default 1000)
+              --concurrency <n>       concurrent workers (default 32)
+              --rate <n>              target requests/s over all workers, 0 = closed loop (default 0)
+              --warmup <duration>     unmeasured warm-up, e.g. 30s (default 15s)
+              --duration <duration>   measured run, e.g. 2m (default 60s)
+              --mix <op:w,...>        weights of list, get, search, create, update, patch, delete
+                                      (default list:2,get:50,search:20,create:10,update:8,patch:6,delete:4)
+              --content-size <n>      content characters of written blogs (default 2000)
+              --random-seed <n>       seed of the generated data and operation sequence (default 42)
+              --report <file>         JSON report (default loadtest-report.json)
+              --cleanup               delete the blogs the run created when it ends
+              --help                  print this message
+            """;
+
+    static LoadTestConfig parse(String[] args) {
+        URI baseUrl = URI.create("http://localhost:8080");
+        int seed = 1000;
+        int concurrency = 32;
+        int rate = 0;
+        Duration warmup = Duration.ofSeconds(15);
+        Duration duration = Duration.ofSeconds(60);
+        Map<Operation, Integer> mix = defaultMix();
+        int contentSize = 2000;
+        long randomSeed = 42;
+        Path report = Path.of("loadtest-report.json");
+        boolean cleanup = false;
+
+        for (int i = 0; i < args.length; i++) {
+            final String option = args[i];
+            if (option.equals("--cleanup")) {
+                cleanup = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            final String value = args[++i];
+            switch (option) {
+                case "--base-url" -> baseUrl = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "--seed" -> seed = positiveOrZero(option, Integer.parseInt(value));
+                case "--concurrency" -> concurrency = Math.max(1, Integer.parseInt(value));
+                case "--rate" -> rate = positiveOrZero(option, Integer.parseInt(value));
+                case "--warmup" -> warmup = parseDuration(value);
+                case "--duration" -> duration = parseDuration(value);
+                case "--mix" -> mix = parseMix(value);
+                case "--content-size" -> contentSize = Math.max(1, Integer.parseInt(value));
+                case "--random-seed" -> randomSeed = Long.parseLong(value);
+                case "--report" -> report = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+
+        final boolean needsIds = mix.keySet().stream().anyMatch(Operation::needsId);
+        if (needsIds && seed == 0) {
+            throw new IllegalArgumentException("--seed must be positive when the mix has get, update, patch or delete");
+        }
+        return new LoadTestConfig(baseUrl, seed, concurrency, rate, warmup, duration, mix, contentSize, randomSeed,
+                report, cleanup);
+    }
+
+    /**
+     * Parses "30s", "5m", "1h", "500ms" or an ISO-8601 duration.
+     */
+    static Duration parseDuration(String value) {
+        final String text = value.trim().toLowerCase();
+        if (text.startsWith("p")) {
+            return Duration.parse(text);
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        final long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Bad duration '" + value + "'");
+        };
+    }
+
+    static Map<Operation, Integer> parseMix(String value) {
+        final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            final String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + entry + "', expected op:weight");
+            }
+            final int weight = positiveOrZero("--mix", Integer.parseInt(parts[1].trim()));
+            if (weight > 0) {
+                mix.put(Operation.of(parts[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix must give at least one operation a positive weight");
+        }
+        return mix;
+    }
+
+    private static Map<Operation, Integer> defaultMix() {
+        final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, operation.defaultWeight());
+        }
+        return mix;
+    }
+
+    private static int positiveOrZero(String option, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(option + " must not be negative");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+package com.test.bloggingplatformapi.loadtest;
+
+/**
+ * The API calls the load test drives, with their default share of the mix.
+ */
+enum Operation {
+    LIST("list", 2, false),
+    GET("get", 50, true),
+    SEARCH("search", 20, false),
+    CREATE("create", 10, false),
+    UPDATE("update", 8, true),
+    PATCH("patch", 6, true),
+    DELETE("delete", 4, true);
+
+    private final String key;
+    private final int defaultWeight;
+    private final boolean needsId;
+
+    Operation(String key, int defaultWeight, boolean needsId) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+        this.needsId = needsId;
+    }
+
+    String key() {
+        return key;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * @return boolean - True if the call targets an existing blog, taken from the ID pool.
+     */
+    boolean needsId() {
+        return needsId;
+    }
+
+    static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "', expected one of list, get, search, " +
+                "create, update, patch, delete");
+    }
+}
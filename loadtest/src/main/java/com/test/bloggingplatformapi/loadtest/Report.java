@@ -0,0 +1,125 @@
+package com.test.bloggingplatformapi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of a run: the JSON report file and a summary table on the console.
+ * Latencies are in milliseconds, throughput in requests per second of measured time.
+ */
+final class Report {
+    private final LoadTestConfig config;
+    private final Instant startedAt;
+    private final Duration measured;
+    private final Map<Operation, EndpointStats> stats;
+
+    Report(LoadTestConfig config, Instant startedAt, Duration measured, Map<Operation, EndpointStats> stats) {
+        this.config = config;
+        this.startedAt = startedAt;
+        this.measured = measured;
+        this.stats = stats;
+    }
+
+    void write() throws IOException {
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(config.report().toFile(), toMap());
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach((operation, endpoint) -> {
+            final Histogram latency = endpoint.latency();
+            out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.key(), latency.getTotalCount(), endpoint.errors(), throughput(latency.getTotalCount()),
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()));
+        });
+        final long requests = stats.values().stream().mapToLong(endpoint -> endpoint.latency().getTotalCount()).sum();
+        final long errors = stats.values().stream().mapToLong(EndpointStats::errors).sum();
+        out.printf("%-8s %10d %8d %10.1f%n", "total", requests, errors, throughput(requests));
+        out.println("Report written to " + config.report().toAbsolutePath());
+    }
+
+    private Map<String, Object> toMap() {
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("baseUrl", config.baseUrl().toString());
+        report.put("config", configMap());
+        report.put("measuredSeconds", measured.toMillis() / 1000.0);
+
+        long requests = 0;
+        long errors = 0;
+        final Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            final EndpointStats endpoint = entry.getValue();
+            requests += endpoint.latency().getTotalCount();
+            errors += endpoint.errors();
+            operations.put(entry.getKey().key(), operationMap(endpoint));
+        }
+        final Map<String, Object> total = new LinkedHashMap<>();
+        total.put("requests", requests);
+        total.put("errors", errors);
+        total.put("throughput", round(throughput(requests)));
+        report.put("total", total);
+        report.put("operations", operations);
+        return report;
+    }
+
+    private Map<String, Object> configMap() {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        values.put("seed", config.seed());
+        values.put("concurrency", config.concurrency());
+        values.put("rate", config.rate());
+        values.put("warmupSeconds", config.warmup().toMillis() / 1000.0);
+        values.put("durationSeconds", config.duration().toMillis() / 1000.0);
+        final Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        values.put("mix", mix);
+        values.put("contentSize", config.contentSize());
+        values.put("randomSeed", config.randomSeed());
+        return values;
+    }
+
+    private Map<String, Object> operationMap(EndpointStats endpoint) {
+        final Histogram latency = endpoint.latency();
+        final Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("mean", round(latency.getTotalCount() == 0 ? 0 : latency.getMean() / 1000.0));
+        latencyMs.put("p50", millis(latency.getValueAtPercentile(50)));
+        latencyMs.put("p90", millis(latency.getValueAtPercentile(90)));
+        latencyMs.put("p99", millis(latency.getValueAtPercentile(99)));
+        latencyMs.put("p999", millis(latency.getValueAtPercentile(99.9)));
+        latencyMs.put("max", millis(latency.getMaxValue()));
+
+        final Map<String, Object> values = new LinkedHashMap<>();
+        values.put("requests", latency.getTotalCount());
+        values.put("errors", endpoint.errors());
+        values.put("skipped", endpoint.skipped());
+        values.put("throughput", round(throughput(latency.getTotalCount())));
+        values.put("statuses", endpoint.statuses());
+        values.put("latencyMs", latencyMs);
+        return values;
+    }
+
+    private double throughput(long requests) {
+        return measured.isZero() ? 0 : requests * 1000.0 / measured.toMillis();
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -2,10 +2,14 @@ package com.test.bloggingplatformapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableMongoAuditing
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class BloggingPlatformApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,188 @@
+package com.test.bloggingplatformapi.cache;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.CacheStatsRes;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.model.event.BlogChangedEvent;
+import com.test.bloggingplatformapi.model.event.BlogChangesLostEvent;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of blog snapshots by ID, in front of Mongo.
+ * The JSON of each snapshot is kept off the Java heap in an OffHeapStore of blog.cache.max-size bytes with CLOCK eviction,
+ * expired after a fixed time to live, so a large hot set adds no GC pressure.
+ * writeTo hands out the cached bytes without copying them to the heap; get copies them into a BlogSnapshot.
+ * Misses are coalesced, so a popular post that expires costs one Mongo query, not one per waiting request.
+ * Writes made by other nodes arrive as BlogChangedEvents from the blogs change stream.
+ */
+@Component
+public class BlogCache {
+    private static final int INVALIDATION_STRIPES = 4096;
+
+    private final OffHeapStore store;
+    private final RequestCoalescer<String, BlogSnapshot> loads = new RequestCoalescer<>();
+    // Bumped by invalidate, so a load that raced a write is not cached.
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public BlogCache(BlogProperties blogProperties) {
+        final BlogProperties.Cache config = blogProperties.getCache();
+        this.store = new OffHeapStore(
+                config.getMaxSize().toBytes(),
+                (int) Math.min(Integer.MAX_VALUE, config.getSegmentSize().toBytes()),
+                config.getTtl()
+        );
+    }
+
+    /**
+     * Returns the cached snapshot, loading and caching it on a miss.
+     * The loader runs on the calling thread; concurrent callers for the same ID wait for its result.
+     *
+     * @param id - ID of the blog.
+     * @param loader - Loads the snapshot on a miss; exceptions are propagated and nothing is cached.
+     * @return BlogSnapshot - The snapshot of the blog.
+     */
+    public BlogSnapshot get(String id, Function<String, BlogSnapshot> loader) {
+        final BlogSnapshot cached = read(id, (version, updatedAt, json) -> {
+            final byte[] bytes = new byte[json.remaining()];
+            json.get(bytes);
+            return new BlogSnapshot(id, version, toDateTime(updatedAt), bytes);
+        }, true);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        return loads.execute(id, () -> {
+            final int stripe = stripe(id);
+            final long generation = invalidations.get(stripe);
+            final BlogSnapshot snapshot = loader.apply(id);
+            store.put(id, snapshot.getVersion(), BlogStamp.toEpochMillis(snapshot.getUpdatedAt()), snapshot.getJson(),
+                    () -> invalidations.get(stripe) == generation);
+            return snapshot;
+        });
+    }
+
+    /**
+     * Hands the cached snapshot to the sink as a read-only view of the off-heap memory, without copying it.
+     * Nothing is loaded, and a miss is not counted; the caller is expected to fall back to get.
+     *
+     * @param id - ID of the blog.
+     * @param sink - Receives the snapshot; the cached bytes cannot be evicted until it returns.
+     * @return boolean - False if the snapshot is not cached.
+     * @throws IOException - As thrown by the sink.
+     */
+    public boolean writeTo(String id, SnapshotSink sink) throws IOException {
+        final Boolean written = store.read(id, (version, updatedAt, json) -> {
+            sink.accept(new BlogStamp(id, toDateTime(updatedAt)), json);
+            return Boolean.TRUE;
+        }, true);
+        if (written == null) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    /**
+     * Returns the validator of the snapshot if it is already cached, without loading it, reading its JSON
+     * or counting a hit or miss.
+     *
+     * @param id - ID of the blog.
+     * @return BlogStamp - The validator of the cached snapshot, or null.
+     */
+    public BlogStamp peekStamp(String id) {
+        return read(id, (version, updatedAt, json) -> new BlogStamp(id, toDateTime(updatedAt)), false);
+    }
+
+    /**
+     * Removes a snapshot so the next read goes to Mongo.
+     * A load in flight for the ID still answers its waiters but is not kept in the cache.
+     *
+     * @param id - ID of the blog.
+     */
+    public void invalidate(String id) {
+        invalidations.incrementAndGet(stripe(id));
+        store.remove(id);
+    }
+
+    /**
+     * Drops the snapshot of a blog written by any node, unless the cached one is already as recent as the write
+     * (this node made it, or read it back since).
+     *
+     * @param event - The write, from the change stream.
+     */
+    @EventListener
+    public void onBlogChanged(BlogChangedEvent event) {
+        if (event.removed() || event.version() == null) {
+            invalidate(event.id());
+            return;
+        }
+        invalidations.incrementAndGet(stripe(event.id()));
+        final Long cached = read(event.id(), (version, updatedAt, json) -> version, false);
+        if (cached != null && cached < event.version()) {
+            store.remove(event.id());
+        }
+    }
+
+    /**
+     * Drops every snapshot, when writes made by other nodes may have been missed.
+     */
+    @EventListener(BlogChangesLostEvent.class)
+    public void invalidateAll() {
+        for (int stripe = 0; stripe < INVALIDATION_STRIPES; stripe++) {
+            invalidations.incrementAndGet(stripe);
+        }
+        store.clear();
+    }
+
+    /**
+     * @return long - Number of reads that joined a load already in flight.
+     */
+    public long coalescedCount() {
+        return loads.coalescedCount();
+    }
+
+    public CacheStatsRes stats() {
+        final long hitCount = hits.sum();
+        final long missCount = misses.sum();
+        final long requestCount = hitCount + missCount;
+        return new CacheStatsRes(
+                hitCount,
+                missCount,
+                requestCount == 0 ? 1.0 : (double) hitCount / requestCount,
+                store.evictions(),
+                store.size(),
+                store.liveBytes()
+        );
+    }
+
+    private <R> R read(String id, OffHeapStore.EntryReader<R> reader, boolean touch) {
+        try {
+            return store.read(id, reader, touch);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static int stripe(String id) {
+        return (int) OffHeapStore.hash(id) & (INVALIDATION_STRIPES - 1);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return epochMillis < 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,411 @@
+package com.test.bloggingplatformapi.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Byte payloads by string ID, kept in direct memory so that a large cache adds nothing for the GC to trace.
+ * <p>
+ * Records are appended to fixed-size segments of ByteBuffer.allocateDirect, allocated as they are first needed.
+ * An open-addressing table of two long arrays (linear probing, backward shift deletion) maps the 64-bit hash of an ID
+ * to the segment and offset of its record; the record keeps the ID, so a hash collision reads as a miss.
+ * Once every segment is allocated, a CLOCK hand picks the segment to reuse: a segment read since the hand last passed
+ * gets a second chance, a segment being read (pinned) is skipped, and the records left in the reused segment are evicted.
+ * A replaced or removed record stays in its segment as dead bytes until the segment is reused.
+ * <p>
+ * The table and the segment bookkeeping are guarded by one lock. Payloads are read outside of it, their segment pinned
+ * so it cannot be reused meanwhile.
+ */
+final class OffHeapStore {
+    // hash, version, updatedAt, storedAt (nanoTime), ID length, payload length
+    private static final int HEADER_BYTES = 8 + 8 + 8 + 8 + 4 + 4;
+    private static final long EMPTY = 0;
+    private static final int INITIAL_SLOTS = 1024;
+
+    private final int segmentSize;
+    private final ByteBuffer[] segments;
+    private final int[] used;
+    private final boolean[] referenced;
+    private final AtomicIntegerArray pins;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int allocated;
+    private int current = -1;
+    private int hand;
+
+    private long[] hashes = new long[INITIAL_SLOTS];
+    private long[] locations = new long[INITIAL_SLOTS];
+    private int size;
+    private long liveBytes;
+    private long evictions;
+
+    /**
+     * Reads a record; the payload buffer is only valid until the reader returns.
+     */
+    @FunctionalInterface
+    interface EntryReader<R> {
+        R read(long version, long updatedAt, ByteBuffer payload) throws IOException;
+    }
+
+    /**
+     * @param capacity - Bytes of direct memory to use at most, rounded down to whole segments (at least one).
+     * @param segmentSize - Bytes per segment; also the largest record that can be stored.
+     * @param ttl - How long a record is served after it was stored.
+     */
+    OffHeapStore(long capacity, int segmentSize, Duration ttl) {
+        if (capacity <= 0 || segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Capacity and segment size must be positive");
+        }
+        this.segmentSize = (int) Math.min(segmentSize, capacity);
+        final int count = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, capacity / this.segmentSize));
+        this.segments = new ByteBuffer[count];
+        this.used = new int[count];
+        this.referenced = new boolean[count];
+        this.pins = new AtomicIntegerArray(count);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Stores a record, replacing the one of the same ID.
+     *
+     * @param id - ID of the record.
+     * @param version - Version of the record, handed back to readers.
+     * @param updatedAt - Modification time in epoch milliseconds, handed back to readers.
+     * @param payload - Bytes to store.
+     * @param valid - Checked under the lock right before storing; false skips the store.
+     * @return boolean - False if the record was not stored: too large, not valid or no segment could be reused.
+     */
+    boolean put(String id, long version, long updatedAt, byte[] payload, BooleanSupplier valid) {
+        final byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        final int length = HEADER_BYTES + idBytes.length + payload.length;
+        if (length > segmentSize) {
+            return false;
+        }
+        final long hash = hash(id);
+
+        lock.lock();
+        try {
+            if (!valid.getAsBoolean()) {
+                return false;
+            }
+            removeIfPresent(hash);
+            if (!reserve(length)) {
+                return false;
+            }
+            final ByteBuffer segment = segments[current];
+            final int offset = used[current];
+            segment.putLong(offset, hash)
+                    .putLong(offset + 8, version)
+                    .putLong(offset + 16, updatedAt)
+                    .putLong(offset + 24, System.nanoTime())
+                    .putInt(offset + 32, idBytes.length)
+                    .putInt(offset + 36, payload.length)
+                    .put(offset + HEADER_BYTES, idBytes)
+                    .put(offset + HEADER_BYTES + idBytes.length, payload);
+            used[current] += length;
+            insert(hash, location(current, offset));
+            liveBytes += length;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands a record to the reader, with its payload as a read-only view of the direct memory (no copy).
+     *
+     * @param id - ID of the record.
+     * @param reader - Reads the record; its segment is pinned until it returns.
+     * @param touch - Whether the read counts as a use for eviction.
+     * @return R - What the reader returned, or null if there is no live record for the ID.
+     */
+    <R> R read(String id, EntryReader<R> reader, boolean touch) throws IOException {
+        final long hash = hash(id);
+        final int segment;
+        final int offset;
+
+        lock.lock();
+        try {
+            final int slot = find(hash);
+            if (slot < 0) {
+                return null;
+            }
+            segment = segmentOf(locations[slot]);
+            offset = offsetOf(locations[slot]);
+            if (!idMatches(segments[segment], offset, id)) {
+                return null;
+            }
+            if (System.nanoTime() - segments[segment].getLong(offset + 24) >= ttlNanos) {
+                liveBytes -= recordLength(segments[segment], offset);
+                removeAt(slot);
+                return null;
+            }
+            if (touch) {
+                referenced[segment] = true;
+            }
+            pins.incrementAndGet(segment);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            final ByteBuffer buffer = segments[segment];
+            final int idLength = buffer.getInt(offset + 32);
+            final int payloadLength = buffer.getInt(offset + 36);
+            return reader.read(
+                    buffer.getLong(offset + 8),
+                    buffer.getLong(offset + 16),
+                    buffer.slice(offset + HEADER_BYTES + idLength, payloadLength).asReadOnlyBuffer()
+            );
+        } finally {
+            pins.decrementAndGet(segment);
+        }
+    }
+
+    /**
+     * @param id - ID of the record to remove, if stored.
+     */
+    void remove(String id) {
+        final long hash = hash(id);
+        lock.lock();
+        try {
+            final int slot = find(hash);
+            if (slot >= 0 && idMatches(segments[segmentOf(locations[slot])], offsetOf(locations[slot]), id)) {
+                liveBytes -= recordLength(segments[segmentOf(locations[slot])], offsetOf(locations[slot]));
+                removeAt(slot);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forgets every record. Their bytes stay in their segments, dead, until the segments are reused.
+     */
+    void clear() {
+        lock.lock();
+        try {
+            Arrays.fill(hashes, EMPTY);
+            Arrays.fill(locations, 0);
+            size = 0;
+            liveBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return long - Number of stored records, expired ones included until they are read or evicted.
+     */
+    long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return long - Bytes taken by the stored records, headers included.
+     */
+    long liveBytes() {
+        lock.lock();
+        try {
+            return liveBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return long - Number of records dropped because their segment was reused.
+     */
+    long evictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return long - Bytes of direct memory allocated so far.
+     */
+    long allocatedBytes() {
+        lock.lock();
+        try {
+            return (long) allocated * segmentSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * FNV-1a over the UTF-16 units of the ID, then the MurmurHash3 finalizer so the low bits used for the slot are mixed.
+     * Never returns 0, which marks an empty slot.
+     */
+    static long hash(String id) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            h = (h ^ id.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == EMPTY ? 1 : h;
+    }
+
+    /**
+     * Makes room for a record of the given length in the current segment, moving to a new or reused one if it is full.
+     */
+    private boolean reserve(int length) {
+        if (current >= 0 && used[current] + length <= segmentSize) {
+            return true;
+        }
+        if (allocated < segments.length) {
+            current = allocated++;
+            segments[current] = ByteBuffer.allocateDirect(segmentSize);
+            return true;
+        }
+        // Two turns: the first may only clear reference bits.
+        for (int step = 0; step < 2 * segments.length; step++) {
+            final int candidate = hand;
+            hand = (hand + 1) % segments.length;
+            if (pins.get(candidate) > 0) {
+                continue;
+            }
+            if (referenced[candidate]) {
+                referenced[candidate] = false;
+                continue;
+            }
+            evict(candidate);
+            current = candidate;
+            return true;
+        }
+        return false;
+    }
+
+    private void evict(int segment) {
+        final ByteBuffer buffer = segments[segment];
+        int offset = 0;
+        while (offset < used[segment]) {
+            final int length = recordLength(buffer, offset);
+            final int slot = find(buffer.getLong(offset));
+            if (slot >= 0 && locations[slot] == location(segment, offset)) {
+                removeAt(slot);
+                liveBytes -= length;
+                evictions++;
+            }
+            offset += length;
+        }
+        used[segment] = 0;
+        referenced[segment] = false;
+    }
+
+    private void removeIfPresent(long hash) {
+        final int slot = find(hash);
+        if (slot >= 0) {
+            liveBytes -= recordLength(segments[segmentOf(locations[slot])], offsetOf(locations[slot]));
+            removeAt(slot);
+        }
+    }
+
+    private int find(long hash) {
+        final int mask = hashes.length - 1;
+        for (int slot = (int) hash & mask; hashes[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long hash, long location) {
+        if ((size + 1) * 3L > hashes.length * 2L) {
+            resize();
+        }
+        final int mask = hashes.length - 1;
+        int slot = (int) hash & mask;
+        while (hashes[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        locations[slot] = location;
+        size++;
+    }
+
+    /**
+     * Empties a slot and shifts back the entries of its probe run that may move into it, so no tombstones are needed.
+     */
+    private void removeAt(int slot) {
+        final int mask = hashes.length - 1;
+        int hole = slot;
+        for (int next = (slot + 1) & mask; hashes[next] != EMPTY; next = (next + 1) & mask) {
+            final int home = (int) hashes[next] & mask;
+            final boolean movable = hole <= next ?
+                    home <= hole || home > next :
+                    home <= hole && home > next;
+            if (movable) {
+                hashes[hole] = hashes[next];
+                locations[hole] = locations[next];
+                hole = next;
+            }
+        }
+        hashes[hole] = EMPTY;
+        locations[hole] = 0;
+        size--;
+    }
+
+    private void resize() {
+        final long[] oldHashes = hashes;
+        final long[] oldLocations = locations;
+        hashes = new long[oldHashes.length * 2];
+        locations = new long[oldLocations.length * 2];
+        final int mask = hashes.length - 1;
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != EMPTY) {
+                int slot = (int) oldHashes[i] & mask;
+                while (hashes[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                locations[slot] = oldLocations[i];
+            }
+        }
+    }
+
+    private static boolean idMatches(ByteBuffer buffer, int offset, String id) {
+        final byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        if (buffer.getInt(offset + 32) != idBytes.length) {
+            return false;
+        }
+        return buffer.slice(offset + HEADER_BYTES, idBytes.length).equals(ByteBuffer.wrap(idBytes));
+    }
+
+    private static int recordLength(ByteBuffer buffer, int offset) {
+        return HEADER_BYTES + buffer.getInt(offset + 32) + buffer.getInt(offset + 36);
+    }
+
+    private static long location(int segment, int offset) {
+        return (long) segment << 32 | offset;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+}
@@ -0,0 +1,79 @@
+package com.test.bloggingplatformapi.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical lookups.
+ * The first caller for a key runs the loader on its own thread; callers arriving while it is in flight
+ * wait on the same CompletableFuture instead of running the loader again.
+ * Nothing is retained once the lookup completes, so this is not a cache.
+ *
+ * @param <K> Key identifying identical lookups; must implement equals and hashCode.
+ * @param <V> Result of the lookup.
+ */
+public class RequestCoalescer<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the loader, or joins the lookup already in flight for the same key.
+     *
+     * @param key - Key of the lookup.
+     * @param loader - Produces the result; its exceptions are rethrown to every waiting caller.
+     * @return V - The result of the lookup.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        final CompletableFuture<V> created = new CompletableFuture<>();
+        final CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        executed.increment();
+        try {
+            final V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * @return long - Number of lookups that actually ran the loader.
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * @return long - Number of lookups served by joining one already in flight.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Waits for a shared lookup, unwrapping the exception of the caller that ran it.
+     */
+    static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.test.bloggingplatformapi.cache;
+
+import java.util.Locale;
+
+/**
+ * Normalized parameters of a search, so requests that differ only in case or surrounding spaces are coalesced.
+ */
+public record SearchKey(
+        String title,
+        int page,
+        int size,
+        String sortBy,
+        String sortDir,
+        String fields
+) {
+    public static SearchKey of(String title, int page, int size, String sortBy, String sortDir, String fields) {
+        return new SearchKey(
+                title.trim().toLowerCase(Locale.ROOT),
+                page,
+                size,
+                sortBy,
+                sortDir.toLowerCase(Locale.ROOT),
+                fields
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.test.bloggingplatformapi.cache;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of heap buffers that cached snapshots are copied into, so their cache memory can be released
+ * before the copy is sent to a possibly slow client.
+ * A buffer is grown (replaced) when a larger snapshot needs it, to the next power of two, so the pool settles
+ * on buffers as large as the largest snapshots sent. When every buffer is in use a buffer is allocated for the
+ * one caller and kept only if the pool has room for it.
+ */
+public class SendBufferPool {
+    private static final int MIN_SIZE = 16 * 1024;
+
+    private final BlockingQueue<byte[]> free;
+    private final LongAdder allocations = new LongAdder();
+
+    /**
+     * @param capacity - Most buffers kept between uses.
+     */
+    public SendBufferPool(int capacity) {
+        this.free = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Takes a buffer of at least the given size; give it back with release.
+     *
+     * @param size - Bytes the buffer must hold.
+     * @return byte[] - A buffer of at least size bytes.
+     */
+    public byte[] acquire(int size) {
+        final byte[] buffer = free.poll();
+        if (buffer != null && buffer.length >= size) {
+            return buffer;
+        }
+        allocations.increment();
+        final int rounded = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        return new byte[Math.max(MIN_SIZE, rounded > 0 ? rounded : size)];
+    }
+
+    public void release(byte[] buffer) {
+        free.offer(buffer);
+    }
+
+    /**
+     * @return long - Number of buffers allocated, when the pool was empty or its buffer too small.
+     */
+    public long allocationCount() {
+        return allocations.sum();
+    }
+}
@@ -0,0 +1,17 @@
+package com.test.bloggingplatformapi.cache;
+
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Receives a blog snapshot to send, e.g. to a response.
+ * The JSON buffer may be a view of the cache's off-heap memory: it must be consumed before returning and not kept.
+ * That memory cannot be reused until the sink returns, so a sink writing to a client should buffer the JSON whole
+ * rather than wait on the network.
+ */
+@FunctionalInterface
+public interface SnapshotSink {
+    void accept(BlogStamp stamp, ByteBuffer json) throws IOException;
+}
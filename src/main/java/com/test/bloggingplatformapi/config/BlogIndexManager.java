@@ -0,0 +1,177 @@
+package com.test.bloggingplatformapi.config;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.repository.BlogQueries;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Manages the indexes of the blogs collection at startup.
+ * The indexes are declared on the Blog entity; depending on blog.index.mode they are created or only verified.
+ * Every query shape of BlogRepository is then explained, and shapes planned as a collection scan are reported.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlogIndexManager implements ApplicationRunner {
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+    private static final String IN_MEMORY_SORT = "SORT";
+
+    private final MongoTemplate mongoTemplate;
+    private final BlogProperties blogProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        final BlogProperties.IndexMode mode = blogProperties.getIndex().getMode();
+        if (mode == BlogProperties.IndexMode.OFF) {
+            return;
+        }
+
+        try {
+            if (mode == BlogProperties.IndexMode.CREATE) {
+                createIndexes();
+            } else {
+                verifyIndexes();
+            }
+            verifyQueryShapes();
+        } catch (DataAccessResourceFailureException ex) {
+            if (mode == BlogProperties.IndexMode.VERIFY) {
+                throw ex;
+            }
+            log.warn("Could not reach Mongo to manage indexes for the blogs collection", ex);
+        }
+    }
+
+    /**
+     * Indexes declared on the Blog entity through @Indexed, @CompoundIndex and @TextIndexed.
+     *
+     * @return List<IndexDefinition> - The declared indexes.
+     */
+    public List<IndexDefinition> declaredIndexes() {
+        final List<IndexDefinition> indexes = new ArrayList<>();
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Blog.class)
+                .forEach(indexes::add);
+        return indexes;
+    }
+
+    /**
+     * The query shapes issued by BlogRepository, keyed by a readable name.
+     *
+     * @return Map<String, Query> - Representative query of each shape.
+     */
+    public Map<String, Query> queryShapes() {
+        final Map<String, Query> shapes = new LinkedHashMap<>();
+        shapes.put("findBlogActiveById/findStampById", BlogQueries.activeById(new ObjectId().toHexString()));
+        shapes.put("findAllActive", BlogQueries.allActive());
+        shapes.put("findFirstByObjStatusOrderByUpdatedAtDesc",
+                BlogQueries.allActive().with(Sort.by(Sort.Direction.DESC, "updatedAt")).limit(1));
+        shapes.put("searchByText", BlogQueries.textSearch("index"));
+        for (String sortBy : List.of("createdAt", "updatedAt", "title")) {
+            shapes.put("findPageAfter(" + sortBy + ")",
+                    BlogQueries.pageAfter(null, sortBy, Sort.Direction.DESC, null, 10));
+        }
+        shapes.put("findTombstones", BlogQueries.tombstonesBefore(LocalDateTime.now(), 1000));
+        return shapes;
+    }
+
+    private void createIndexes() {
+        final IndexOperations indexOps = mongoTemplate.indexOps(Blog.class);
+        declaredIndexes().forEach(indexOps::ensureIndex);
+    }
+
+    private void verifyIndexes() {
+        final Set<String> existing = mongoTemplate.indexOps(Blog.class)
+                .getIndexInfo()
+                .stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+
+        final List<String> missing = declaredIndexes()
+                .stream()
+                .map(index -> index.getIndexOptions().getString("name"))
+                .filter(name -> !existing.contains(name))
+                .toList();
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing indexes on the blogs collection: " + missing);
+        }
+    }
+
+    private void verifyQueryShapes() {
+        final List<String> scans = new ArrayList<>();
+
+        queryShapes().forEach((name, query) -> {
+            final Object winningPlan = explain(query)
+                    .get("queryPlanner", Document.class)
+                    .get("winningPlan");
+
+            if (containsStage(winningPlan, COLLECTION_SCAN)) {
+                scans.add(name);
+            } else if (containsStage(winningPlan, IN_MEMORY_SORT)) {
+                log.warn("Query shape {} on the blogs collection sorts in memory", name);
+            }
+        });
+
+        if (scans.isEmpty()) {
+            return;
+        }
+        final String message = "Query shapes without a supporting index on the blogs collection: " + scans;
+        if (blogProperties.getIndex().isFailOnCollectionScan()) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private Document explain(Query query) {
+        final MongoPersistentEntity<?> entity = mongoTemplate.getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(Blog.class);
+        final QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+
+        final FindIterable<Document> find = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Blog.class))
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity));
+        if (query.getLimit() > 0) {
+            find.limit(query.getLimit());
+        }
+
+        return find.explain(ExplainVerbosity.QUERY_PLANNER);
+    }
+
+    private static boolean containsStage(Object node, String stage) {
+        if (node instanceof Document document) {
+            return stage.equals(document.get("stage")) ||
+                    document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,264 @@
+package com.test.bloggingplatformapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Tunables for the blog API, bound from the "blog" prefix in application.yml.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "blog")
+public class BlogProperties {
+
+    private final Stream stream = new Stream();
+
+    private final Index index = new Index();
+
+    private final Cache cache = new Cache();
+
+    private final Bulk bulk = new Bulk();
+
+    private final Compaction compaction = new Compaction();
+
+    private final Mongo mongo = new Mongo();
+
+    private final Profiler profiler = new Profiler();
+
+    private final ContentCompression contentCompression = new ContentCompression();
+
+    private final ChangeStream changeStream = new ChangeStream();
+
+    private final Outbox outbox = new Outbox();
+
+    private final Facets facets = new Facets();
+
+    @Getter @Setter
+    public static class Stream {
+        /**
+         * Number of documents the Mongo cursor fetches per round trip when streaming blogs.
+         */
+        private int batchSize = 500;
+    }
+
+    @Getter @Setter
+    public static class Index {
+        /**
+         * CREATE builds missing indexes at startup, VERIFY fails startup when one is missing, OFF skips both.
+         */
+        private IndexMode mode = IndexMode.CREATE;
+
+        /**
+         * Fail startup instead of logging a warning when a repository query shape is planned as a collection scan.
+         */
+        private boolean failOnCollectionScan = false;
+    }
+
+    @Getter @Setter
+    public static class Cache {
+        /**
+         * Direct (off-heap) memory holding the cached blog snapshots; counts against -XX:MaxDirectMemorySize.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Unit of allocation and eviction of the cache memory; a snapshot larger than this is not cached.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(1);
+
+        /**
+         * How long a cached blog is served before it is read from Mongo again.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * Heap buffers kept to copy cached snapshots larger than the response buffer into, so the cache memory is
+         * released before they are sent; each grows to the largest snapshot it held, at most segment-size.
+         */
+        private int sendBuffers = 16;
+    }
+
+    @Getter @Setter
+    public static class Bulk {
+        /**
+         * Number of items sent to Mongo in one bulk write.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Largest number of items accepted by one bulk request.
+         */
+        private int maxItems = 10000;
+    }
+
+    @Getter @Setter
+    public static class Compaction {
+        /**
+         * Number of DELETED blogs removed per delete command when compacting tombstones.
+         */
+        private int batchSize = 1000;
+
+        /**
+         * How long a DELETED blog is kept before the scheduled purge removes it.
+         */
+        private Duration retention = Duration.ofDays(30);
+
+        /**
+         * Pause between two batches, so a large purge does not saturate the primary.
+         */
+        private Duration pause = Duration.ofMillis(200);
+
+        /**
+         * Copy the tombstones into archiveCollection before removing them, instead of only deleting them.
+         */
+        private boolean archive = false;
+
+        private String archiveCollection = "blogs_archive";
+    }
+
+    @Getter @Setter
+    public static class Mongo {
+        /**
+         * Maximum connections per server. Every request that reaches Mongo holds one for the duration
+         * of its command, so with virtual threads this, not the Tomcat thread count, bounds concurrency.
+         */
+        private int maxPoolSize = 100;
+
+        private int minPoolSize = 0;
+
+        /**
+         * How long a request waits for a free connection before failing.
+         */
+        private Duration maxWaitTime = Duration.ofMinutes(2);
+
+        /**
+         * Maximum connections being established at the same time per server.
+         */
+        private int maxConnecting = 2;
+    }
+
+    @Getter @Setter
+    public static class Profiler {
+        /**
+         * Record the Mongo commands on the blogs collection slower than slowThreshold.
+         */
+        private boolean enabled = true;
+
+        private Duration slowThreshold = Duration.ofMillis(100);
+
+        /**
+         * Number of slow commands kept; the oldest is dropped first.
+         */
+        private int bufferSize = 100;
+
+        /**
+         * Explain slow commands in the background to capture their plan and the documents they examined.
+         * Explain runs the query again, so a query shape is explained at most once per explainInterval.
+         */
+        private boolean explain = true;
+
+        private Duration explainInterval = Duration.ofMinutes(1);
+    }
+
+    @Getter @Setter
+    public static class ContentCompression {
+        /**
+         * Store long blog content deflate compressed. Compressed content is left out of the text index,
+         * so search only matches the title of those blogs.
+         * Turning it off does not decompress what is already stored: those blogs stay compressed, and out of search,
+         * until their content is written again.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Content shorter than this (in UTF-8 bytes) is stored as is.
+         */
+        private DataSize minSize = DataSize.ofKilobytes(4);
+
+        /**
+         * Deflate level, 1 (fastest) to 9 (smallest), -1 for the default (6).
+         */
+        private int level = -1;
+    }
+
+    @Getter @Setter
+    public static class ChangeStream {
+        /**
+         * Watch the blogs collection and invalidate this node's cache on writes made by any node.
+         * Needs a replica set or sharded cluster.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Name the resume token is saved under; the host name when blank. Must differ between nodes.
+         */
+        private String nodeId = "";
+
+        /**
+         * Longest a read of the stream waits for new events, which bounds how long stopping takes.
+         */
+        private Duration maxAwaitTime = Duration.ofSeconds(1);
+
+        /**
+         * How often the resume token is saved while events are processed.
+         */
+        private Duration tokenSaveInterval = Duration.ofSeconds(5);
+
+        /**
+         * Wait before reopening the stream after an error.
+         */
+        private Duration retryDelay = Duration.ofSeconds(5);
+    }
+
+    @Getter @Setter
+    public static class Outbox {
+        /**
+         * Write single-blog changes in a transaction together with an outbox entry, and update snapshots and facets
+         * from the outbox in the background. Needs a replica set or sharded cluster.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Most entries claimed and published at once.
+         */
+        private int batchSize = 100;
+
+        /**
+         * Wait between two polls of the outbox once it is drained.
+         */
+        private Duration pollInterval = Duration.ofMillis(500);
+
+        /**
+         * How long a claimed batch stays with its node before it is delivered again; longer than a batch takes.
+         */
+        private Duration lease = Duration.ofSeconds(30);
+
+        /**
+         * Most runs of a write whose transaction keeps aborting with a transient error.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * Most deliveries of an entry whose consumers keep failing; it is then moved to deadLetterCollection.
+         */
+        private int maxDeliveries = 5;
+
+        private String deadLetterCollection = "blog_outbox_dead";
+    }
+
+    @Getter @Setter
+    public static class Facets {
+        /**
+         * How long a node holds the right to recount the facet counts; longer than a recount takes.
+         * A node that stops mid-recount blocks the others for at most this long.
+         */
+        private Duration reconcileLease = Duration.ofMinutes(10);
+    }
+
+    public enum IndexMode {
+        CREATE, VERIFY, OFF
+    }
+}
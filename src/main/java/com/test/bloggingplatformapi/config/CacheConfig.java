@@ -0,0 +1,20 @@
+package com.test.bloggingplatformapi.config;
+
+import com.test.bloggingplatformapi.cache.RequestCoalescer;
+import com.test.bloggingplatformapi.cache.SearchKey;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.PageRes;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Coalesces concurrent identical searches into one Mongo query.
+     */
+    @Bean
+    public RequestCoalescer<SearchKey, PageRes<BlogRes>> searchCoalescer() {
+        return new RequestCoalescer<>();
+    }
+}
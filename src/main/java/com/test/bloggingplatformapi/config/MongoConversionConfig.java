@@ -0,0 +1,21 @@
+package com.test.bloggingplatformapi.config;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.convert.PropertyValueConverterFactory;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+@Configuration
+public class MongoConversionConfig {
+
+    /**
+     * Resolves the @ValueConverter of entity properties (e.g. BlogContentConverter) from the application context,
+     * so they can be configured from blog.* instead of being created with their default constructor.
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions(BeanFactory beanFactory) {
+        return MongoCustomConversions.create(adapter -> adapter
+                .registerPropertyValueConverterFactory(PropertyValueConverterFactory.beanFactoryAware(beanFactory)));
+    }
+}
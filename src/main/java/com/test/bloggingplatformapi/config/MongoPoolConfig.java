@@ -0,0 +1,24 @@
+package com.test.bloggingplatformapi.config;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoPoolConfig {
+
+    /**
+     * Sizes the Mongo connection pool from blog.mongo.*; the defaults are the driver's own.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(BlogProperties blogProperties) {
+        final BlogProperties.Mongo mongo = blogProperties.getMongo();
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(mongo.getMaxPoolSize())
+                .minSize(mongo.getMinPoolSize())
+                .maxWaitTime(mongo.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnecting(mongo.getMaxConnecting()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.test.bloggingplatformapi.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+@Configuration
+@ConditionalOnProperty(prefix = "blog.outbox", name = "enabled", havingValue = "true")
+public class MongoTransactionConfig {
+
+    /**
+     * Mongo transactions for the outbox; only registered with blog.outbox.enabled, as they need a replica set.
+     */
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
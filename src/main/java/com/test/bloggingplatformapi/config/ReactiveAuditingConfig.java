@@ -0,0 +1,15 @@
+package com.test.bloggingplatformapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+
+/**
+ * Reactive repositories only run the reactive auditing callbacks, which @EnableMongoAuditing does not register;
+ * without them blogs created by the reactive variant have no createdAt and updatedAt.
+ */
+@Profile("reactive")
+@Configuration
+@EnableReactiveMongoAuditing
+public class ReactiveAuditingConfig {
+}
@@ -0,0 +1,20 @@
+package com.test.bloggingplatformapi.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Profile("reactive")
+@Configuration
+public class ReactiveServerConfig {
+
+    /**
+     * Tomcat is on the classpath for the servlet stack and would otherwise be picked for WebFlux too;
+     * the reactive variant runs on Netty's event loop.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -5,4 +5,6 @@ public final class APIEndPoints {
 
     public static final String BLOG_V1_BASE ="/v1/blogs";
 
+    public static final String ADMIN_V1_BASE ="/v1/admin";
+
 }
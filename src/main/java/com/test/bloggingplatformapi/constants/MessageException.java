@@ -7,4 +7,8 @@ public class MessageException {
     public static final String MSG_TITLE_NOT_NULL = "Title is required!";
     public static final String MSG_CONTENT_NOT_NULL = "Content is required!";
     public static final String MSG_CATEGORY_NOT_NULL = "Category is required!";
+    public static final String MSG_ID_NOT_NULL = "Id is required!";
+    public static final String MSG_BLOG_NOT_NULL = "Blog is required!";
+    public static final String MSG_TITLE_NOT_BLANK = "Title must not be blank!";
+    public static final String MSG_CONTENT_NOT_BLANK = "Content must not be blank!";
 }
@@ -0,0 +1,170 @@
+package com.test.bloggingplatformapi.controller;
+
+import com.test.bloggingplatformapi.cache.BlogCache;
+import com.test.bloggingplatformapi.cache.RequestCoalescer;
+import com.test.bloggingplatformapi.cache.SearchKey;
+import com.test.bloggingplatformapi.constants.APIEndPoints;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.CacheStatsRes;
+import com.test.bloggingplatformapi.dtos.req.ChangeStreamStatsRes;
+import com.test.bloggingplatformapi.dtos.req.CoalescingStatsRes;
+import com.test.bloggingplatformapi.dtos.req.CompactionStatsRes;
+import com.test.bloggingplatformapi.dtos.req.FacetsRes;
+import com.test.bloggingplatformapi.dtos.req.OutboxStatsRes;
+import com.test.bloggingplatformapi.dtos.req.PageRes;
+import com.test.bloggingplatformapi.dtos.req.SlowQueryRes;
+import com.test.bloggingplatformapi.exception.ConflictException;
+import com.test.bloggingplatformapi.metrics.SlowQueryLog;
+import com.test.bloggingplatformapi.service.BlogChangeStreamService;
+import com.test.bloggingplatformapi.service.BlogFacetService;
+import com.test.bloggingplatformapi.service.BlogMaintenanceService;
+import com.test.bloggingplatformapi.service.BlogOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Controller exposes operational information about the blog service.
+ */
+@RequiredArgsConstructor
+@Profile("!reactive")
+@RestController
+@RequestMapping(APIEndPoints.PREFIX)
+public class AdminController {
+
+    private final BlogCache blogCache;
+
+    private final RequestCoalescer<SearchKey, PageRes<BlogRes>> searchCoalescer;
+
+    private final BlogMaintenanceService blogMaintenanceService;
+
+    private final SlowQueryLog slowQueryLog;
+
+    private final BlogChangeStreamService blogChangeStreamService;
+
+    private final BlogOutboxService blogOutboxService;
+
+    private final BlogFacetService blogFacetService;
+
+    /**
+     * Get hit, miss and eviction statistics of the blog cache.
+     * GET /api/v1/admin/cache/blogs
+     *
+     * @return CacheStatsRes - The cache statistics.
+     */
+    @GetMapping(APIEndPoints.ADMIN_V1_BASE + "/cache/blogs")
+    public CacheStatsRes getBlogCacheStats() {
+        return blogCache.stats();
+    }
+
+    /**
+     * Get how many blog lookups and searches were served by joining an identical one already in flight.
+     * GET /api/v1/admin/coalescing
+     *
+     * @return CoalescingStatsRes - The request coalescing statistics.
+     */
+    @GetMapping(APIEndPoints.ADMIN_V1_BASE + "/coalescing")
+    public CoalescingStatsRes getCoalescingStats() {
+        return new CoalescingStatsRes(
+                blogCache.stats().missCount(),
+                blogCache.coalescedCount(),
+                searchCoalescer.executedCount(),
+                searchCoalescer.coalescedCount()
+        );
+    }
+
+    /**
+     * Get whether this node follows the blogs change stream, the events it handled and the lag of the last one.
+     * GET /api/v1/admin/change-stream
+     *
+     * @return ChangeStreamStatsRes - The change stream statistics.
+     */
+    @GetMapping(APIEndPoints.ADMIN_V1_BASE + "/change-stream")
+    public ChangeStreamStatsRes getChangeStreamStats() {
+        return blogChangeStreamService.getChangeStreamStats();
+    }
+
+    /**
+     * Get whether blog writes go through the outbox, how many entries wait and how many were dispatched by this node.
+     * GET /api/v1/admin/outbox
+     *
+     * @return OutboxStatsRes - The outbox statistics.
+     */
+    @GetMapping(APIEndPoints.ADMIN_V1_BASE + "/outbox")
+    public OutboxStatsRes getOutboxStats() {
+        return blogOutboxService.getOutboxStats();
+    }
+
+    /**
+     * Start removing for good the DELETED blogs left by deletes and by updates made before PUT was done in place.
+     * POST /api/v1/admin/tombstones/compact?olderThanDays={olderThanDays}
+     * The compaction runs in the background; its progress is reported by GET /api/v1/admin/tombstones.
+     *
+     * @param olderThanDays - Only remove tombstones deleted at least this many days ago (default is 0, all of them).
+     * @return CompactionStatsRes - The compaction statistics at the time the run was started.
+     * @throws ConflictException - If a compaction is already running.
+     */
+    @PostMapping(APIEndPoints.ADMIN_V1_BASE + "/tombstones/compact")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CompactionStatsRes compactTombstones(@RequestParam(defaultValue = "0") int olderThanDays) {
+        if (!blogMaintenanceService.startCompaction(Duration.ofDays(olderThanDays))) {
+            throw new ConflictException("Tombstone compaction is already running!");
+        }
+        return blogMaintenanceService.getCompactionStats();
+    }
+
+    /**
+     * Get the number of tombstones purged, bytes reclaimed and duration of the compaction runs.
+     * GET /api/v1/admin/tombstones
+     *
+     * @return CompactionStatsRes - The compaction statistics.
+     */
+    @GetMapping(APIEndPoints.ADMIN_V1_BASE + "/tombstones")
+    public CompactionStatsRes getCompactionStats() {
+        return blogMaintenanceService.getCompactionStats();
+    }
+
+    /**
+     * Recompute the number of blogs per category and per tag from the blogs collection, e.g. after a data migration.
+     * POST /api/v1/admin/facets/reconcile
+     * The counts are otherwise reconciled on blog.facets.reconcile-cron.
+     *
+     * @return FacetsRes - The recomputed counts.
+     */
+    @PostMapping(APIEndPoints.ADMIN_V1_BASE + "/facets/reconcile")
+    public FacetsRes reconcileFacets() {
+        return blogFacetService.reconcileFacets();
+    }
+
+    /**
+     * Get the last Mongo commands on the blogs collection slower than blog.profiler.slow-threshold, newest first,
+     * with their winning plan and the documents they examined once explained.
+     * GET /api/v1/admin/slow-queries
+     *
+     * @return List<SlowQueryRes> - The slow commands.
+     */
+    @GetMapping(APIEndPoints.ADMIN_V1_BASE + "/slow-queries")
+    public List<SlowQueryRes> getSlowQueries() {
+        return slowQueryLog.entries();
+    }
+
+    /**
+     * Clear the recorded slow commands, e.g. after adding an index.
+     * DELETE /api/v1/admin/slow-queries
+     */
+    @DeleteMapping(APIEndPoints.ADMIN_V1_BASE + "/slow-queries")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void clearSlowQueries() {
+        slowQueryLog.clear();
+    }
+}
@@ -1,16 +1,37 @@
 package com.test.bloggingplatformapi.controller;
 
 import com.test.bloggingplatformapi.constants.APIEndPoints;
+import com.test.bloggingplatformapi.converter.BlogFieldsConverter;
+import com.test.bloggingplatformapi.converter.BlogStampConverter;
+import com.test.bloggingplatformapi.converter.BlogStreamWriter;
 import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.BulkRes;
+import com.test.bloggingplatformapi.dtos.req.CursorPageRes;
+import com.test.bloggingplatformapi.dtos.req.FacetsRes;
+import com.test.bloggingplatformapi.dtos.res.BlogBulkUpdateReq;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
 import com.test.bloggingplatformapi.dtos.res.BlogReq;
 import com.test.bloggingplatformapi.dtos.req.PageRes;
 import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+import com.test.bloggingplatformapi.model.projection.ListStamp;
+import com.test.bloggingplatformapi.service.BlogFacetService;
 import com.test.bloggingplatformapi.service.BlogService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -19,54 +40,172 @@ import java.util.Set;
  * Annotation @RequestMapping(APIEndPoints.PREFIX) to define the base URL for all endpoints in this controller.
  */
 @RequiredArgsConstructor
+@Profile("!reactive")
 @RestController
 @RequestMapping(APIEndPoints.PREFIX)
 public class BlogController {
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
 
     private final BlogService blogService;
 
+    private final BlogStreamWriter blogStreamWriter;
+
+    private final SnapshotResponseWriter snapshotResponseWriter;
+
+    private final BlogFacetService blogFacetService;
+
     /**
      * Get All Blogs
-     * GET /api/v1/blogs
+     * GET /api/v1/blogs?fields={fields}&excerpt={excerpt}
+     * The blogs are streamed from a Mongo cursor straight to the response, as a JSON array by default
+     * or as newline delimited JSON when the client accepts application/x-ndjson.
+     * Answers 304 without opening the cursor when the If-None-Match/If-Modified-Since validators still match.
      *
-     * @return Set<BlogRes> - List Blogs as DTO.
+     * @param fields - Comma separated fields to return, or "summary" for all but content (default is all).
+     * @param excerpt - Return only the first N characters of content.
+     * @param accept - Accept header of the request.
+     * @param request - The request, used to evaluate conditional headers.
+     * @return StreamingResponseBody - List Blogs as DTO, written while the cursor is read.
      */
-    @GetMapping(APIEndPoints.BLOG_V1_BASE)
-    public Set<BlogRes> getAllBlogs() {
-        return blogService.getAllBlogs();
+    @GetMapping(value = APIEndPoints.BLOG_V1_BASE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> getAllBlogs(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer excerpt,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest request) {
+        final BlogFields selection = BlogFieldsConverter.parse(fields, excerpt);
+        final boolean ndJson = acceptsNdJson(accept);
+        final ListStamp stamp = blogService.getListStamp();
+        final String variant = (ndJson ? "ndjson" : "json") + ";" + selection.key();
+        if (request.checkNotModified(stamp.eTag(variant), stamp.lastModified())) {
+            return null;
+        }
+
+        if (ndJson) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(out -> blogStreamWriter.writeNdJson(out,
+                            consumer -> blogService.streamAllBlogs(selection, consumer)));
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(out -> blogStreamWriter.writeJsonArray(out,
+                        consumer -> blogService.streamAllBlogs(selection, consumer)));
     }
 
     /**
      * Get the details of a blog based on ID.
      * GET /api/v1/blogs/{id}
+     * Conditional requests are validated from the cache or an updatedAt projection, and answered
+     * with 304 without reading the content.
+     * The body is the blog's snapshot, JSON serialized when the blog was written, sent as is;
+     * a cached snapshot is copied out of the cache's off-heap memory before any of it reaches the socket,
+     * into the response buffer or, when larger, a pooled send buffer.
      *
      * @param id - ID of the blog to get information from.
-     * @return BlogRes - The blog details as a DTO.
+     * @param request - The request, used to evaluate conditional headers.
+     * @param response - The response the blog details are written to as JSON, with ETag and Last-Modified headers.
      */
     @GetMapping(APIEndPoints.BLOG_V1_BASE + "/{id}")
-    public BlogRes getBlogById(@PathVariable String id) {
-        return blogService.getBlogById(id);
+    public void getBlogById(@PathVariable String id, WebRequest request, HttpServletResponse response) throws IOException {
+        if (isConditional(request)) {
+            final BlogStamp stamp = blogService.getBlogStamp(id);
+            if (request.checkNotModified(stamp.eTag(), stamp.lastModified())) {
+                return;
+            }
+        }
+
+        snapshotResponseWriter.send(response, sink -> blogService.sendBlogSnapshot(id, sink));
     }
 
     /**
      * Search blogs by title and paginate the results.
-     * GET /api/v1/blogs/search?title={title}&page={page}&size={size}&sortBy={sortBy}&sortDir={sortDir}
+     * GET /api/v1/blogs/search?title={title}&page={page}&size={size}&sortBy={sortBy}&sortDir={sortDir}&fields={fields}&excerpt={excerpt}
+     * The page carries a weak ETag; a matching If-None-Match gets 304 and the page is not serialized.
      *
-     * @param title - Title to search.
+     * @param title - Words to search in the title and content.
      * @param page - Page number (starting from 0).
      * @param size - Number of elements per page.
-     * @param sortBy - Field to sort by (default is "title").
+     * @param sortBy - Field to sort by, or "relevance" to rank by text score (default is "title").
      * @param sortDir - Sort direction (default is "asc").
+     * @param fields - Comma separated fields to return, or "summary" for all but content (default is all).
+     * @param excerpt - Return only the first N characters of content.
+     * @param facets - Also return the number of blogs per category and per tag (default is false).
      * @return PageRes<BlogRes> - Pagination results as DTO.
      */
     @GetMapping(APIEndPoints.BLOG_V1_BASE + "/search")
-    public PageRes<BlogRes> searchBlogsByTitle(
+    public ResponseEntity<PageRes<BlogRes>> searchBlogsByTitle(
             @RequestParam String title,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "asc") String sortBy,
-            @RequestParam(defaultValue = "title") String sortDir) {
-        return blogService.searchBlogsByTitle(title,page,size,sortBy,sortDir);
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer excerpt,
+            @RequestParam(defaultValue = "false") boolean facets) {
+        final BlogFields selection = BlogFieldsConverter.parse(fields, excerpt);
+        final PageRes<BlogRes> blogs = blogService.searchBlogsByTitle(title,page,size,sortBy,sortDir,selection);
+        if (!facets) {
+            return okWithValidators(
+                    BlogStampConverter.pageETag(blogs.content(), blogs.totalElements(), selection.key()),
+                    BlogStampConverter.lastModified(blogs.content()))
+                    .body(blogs);
+        }
+
+        final FacetsRes counts = blogFacetService.getFacets();
+        return okWithValidators(
+                BlogStampConverter.pageETag(blogs.content(), blogs.totalElements(),
+                        selection.key() + counts.categories().values() + counts.tags().values()),
+                BlogStampConverter.lastModified(blogs.content()))
+                .body(blogs.withFacets(counts));
+    }
+
+    /**
+     * Get the number of ACTIVE blogs per category and per tag.
+     * GET /api/v1/blogs/facets
+     * Served from counts kept up to date by every write, so no query is run.
+     *
+     * @return FacetsRes - The counts.
+     */
+    @GetMapping(APIEndPoints.BLOG_V1_BASE + "/facets")
+    public FacetsRes getFacets() {
+        return blogFacetService.getFacets();
+    }
+
+    /**
+     * List or search blogs with keyset pagination.
+     * GET /api/v1/blogs/scroll?title={title}&cursor={cursor}&size={size}&sortBy={sortBy}&sortDir={sortDir}&fields={fields}&excerpt={excerpt}
+     * Unlike /search this does not report totals, but every page costs the same regardless of depth.
+     *
+     * @param title - Optional words to search in the title and content.
+     * @param cursor - Token returned as nextCursor by the previous page, omitted for the first page.
+     * @param size - Number of elements per page.
+     * @param sortBy - Field to sort by: title, createdAt or updatedAt (default is "createdAt").
+     * @param sortDir - Sort direction (default is "desc").
+     * @param fields - Comma separated fields to return, or "summary" for all but content (default is all).
+     * @param excerpt - Return only the first N characters of content.
+     * @return CursorPageRes<BlogRes> - The page as DTO with the token of the next page.
+     */
+    @GetMapping(APIEndPoints.BLOG_V1_BASE + "/scroll")
+    public ResponseEntity<CursorPageRes<BlogRes>> scrollBlogs(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer excerpt) {
+        final BlogFields selection = BlogFieldsConverter.parse(fields, excerpt);
+        final CursorPageRes<BlogRes> blogs = blogService.scrollBlogs(title,cursor,size,sortBy,sortDir,selection);
+
+        return okWithValidators(
+                BlogStampConverter.pageETag(blogs.content(), -1, selection.key()),
+                BlogStampConverter.lastModified(blogs.content()))
+                .body(blogs);
     }
 
     /**
@@ -104,12 +243,41 @@ public class BlogController {
      * @param tags - List of new tags.
      * @return BlogRes - Blog information after updating tags as DTO.
      */
-    @PatchMapping(APIEndPoints.BLOG_V1_BASE + "/{id}")
+    @PatchMapping(value = APIEndPoints.BLOG_V1_BASE + "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.ACCEPTED)
     public BlogRes updateTabBlog(@PathVariable String id,@RequestBody Set<Tag> tags) {
         return blogService.updateTagsBlog(id,tags);
     }
 
+    /**
+     * Change only the given fields of a blog based on ID.
+     * PATCH /api/v1/blogs/{id} with Content-Type application/merge-patch+json
+     * When the patch carries a version, it is rejected with 409 if the blog has changed since.
+     *
+     * @param id - ID of the blog to patch.
+     * @param req - Fields to change.
+     * @return BlogRes - Blog information after the patch as DTO.
+     */
+    @PatchMapping(value = APIEndPoints.BLOG_V1_BASE + "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BlogRes patchBlog(@PathVariable String id, @RequestBody @Valid BlogPatchReq req) {
+        return blogService.patchBlog(id, req);
+    }
+
+    /**
+     * Add tags to a blog based on ID, keeping the tags it already has.
+     * POST /api/v1/blogs/{id}/tags
+     *
+     * @param id - ID of the blog to tag.
+     * @param tags - Tags to add.
+     * @return BlogRes - Blog information after adding the tags as DTO.
+     */
+    @PostMapping(APIEndPoints.BLOG_V1_BASE + "/{id}/tags")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BlogRes addTagsBlog(@PathVariable String id, @RequestBody Set<Tag> tags) {
+        return blogService.addTagsBlog(id, tags);
+    }
+
     /**
      * Delete a blog based on ID.
      * DELETE /api/v1/blogs/{id}
@@ -121,4 +289,62 @@ public class BlogController {
     public void deleteBlog(@PathVariable String id) {
         blogService.deleteBlog(id);
     }
+
+    /**
+     * Create many blogs at once.
+     * POST /api/v1/blogs/bulk
+     * Invalid or failed items are reported in the result and do not stop the others.
+     *
+     * @param reqs - Blogs to create.
+     * @return BulkRes - The outcome of each item, in request order.
+     */
+    @PostMapping(APIEndPoints.BLOG_V1_BASE + "/bulk")
+    public BulkRes createBlogs(@RequestBody List<BlogReq> reqs) {
+        return blogService.addBlogs(reqs);
+    }
+
+    /**
+     * Update many blogs at once.
+     * PUT /api/v1/blogs/bulk
+     *
+     * @param reqs - IDs of the blogs to update with their new information.
+     * @return BulkRes - The outcome of each item, in request order.
+     */
+    @PutMapping(APIEndPoints.BLOG_V1_BASE + "/bulk")
+    public BulkRes updateBlogs(@RequestBody List<BlogBulkUpdateReq> reqs) {
+        return blogService.updateBlogs(reqs);
+    }
+
+    /**
+     * Delete many blogs at once.
+     * DELETE /api/v1/blogs/bulk
+     * An ID given more than once is deleted once; its repeats are reported as FAILED.
+     *
+     * @param ids - IDs of the blogs to delete.
+     * @return BulkRes - The outcome of each item, in request order.
+     */
+    @DeleteMapping(APIEndPoints.BLOG_V1_BASE + "/bulk")
+    public BulkRes deleteBlogs(@RequestBody List<String> ids) {
+        return blogService.deleteBlogs(ids);
+    }
+
+    /**
+     * 200 response carrying the validators; returning it lets Spring answer a matching conditional GET with 304
+     * before the body is serialized.
+     */
+    private ResponseEntity.BodyBuilder okWithValidators(String eTag, long lastModified) {
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(eTag);
+        return lastModified >= 0 ? builder.lastModified(lastModified) : builder;
+    }
+
+    private boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null ||
+                request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    private boolean acceptsNdJson(String accept) {
+        return accept != null && MediaType.parseMediaTypes(accept)
+                .stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
 }
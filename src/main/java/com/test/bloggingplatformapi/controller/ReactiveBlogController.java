@@ -0,0 +1,153 @@
+package com.test.bloggingplatformapi.controller;
+
+import com.test.bloggingplatformapi.constants.APIEndPoints;
+import com.test.bloggingplatformapi.converter.BlogFieldsConverter;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.PageRes;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
+import com.test.bloggingplatformapi.dtos.res.BlogReq;
+import com.test.bloggingplatformapi.service.ReactiveBlogService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of BlogController, active with the "reactive" profile.
+ * Serves the same paths; lists are written element by element as Mongo returns them, with backpressure
+ * from the client connection down to the cursor.
+ * Bulk, scroll and admin endpoints are only available on the servlet stack.
+ */
+@Profile("reactive")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(APIEndPoints.PREFIX)
+public class ReactiveBlogController {
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private final ReactiveBlogService blogService;
+
+    /**
+     * Get All Blogs
+     * GET /api/v1/blogs?fields={fields}&excerpt={excerpt}
+     * Streamed as a JSON array, or as newline delimited JSON when the client accepts application/x-ndjson.
+     *
+     * @param fields - Comma separated fields to return, or "summary" for all but content (default is all).
+     * @param excerpt - Return only the first N characters of content.
+     * @return Flux<BlogRes> - List Blogs as DTO.
+     */
+    @GetMapping(value = APIEndPoints.BLOG_V1_BASE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<BlogRes> getAllBlogs(@RequestParam(required = false) String fields,
+                                     @RequestParam(required = false) Integer excerpt) {
+        return blogService.streamAllBlogs(BlogFieldsConverter.parse(fields, excerpt));
+    }
+
+    /**
+     * Get the details of a blog based on ID.
+     * GET /api/v1/blogs/{id}
+     *
+     * @param id - ID of the blog to get information from.
+     * @return Mono<BlogRes> - The blog details as a DTO.
+     */
+    @GetMapping(APIEndPoints.BLOG_V1_BASE + "/{id}")
+    public Mono<BlogRes> getBlogById(@PathVariable String id) {
+        return blogService.getBlogById(id);
+    }
+
+    /**
+     * Search blogs by title and paginate the results.
+     * GET /api/v1/blogs/search?title={title}&page={page}&size={size}&sortBy={sortBy}&sortDir={sortDir}&fields={fields}&excerpt={excerpt}
+     *
+     * @return Mono<PageRes<BlogRes>> - Pagination results as DTO.
+     */
+    @GetMapping(value = APIEndPoints.BLOG_V1_BASE + "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PageRes<BlogRes>> searchBlogsByTitle(
+            @RequestParam String title,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer excerpt) {
+        return blogService.searchBlogsByTitle(title, page, size, sortBy, sortDir,
+                BlogFieldsConverter.parse(fields, excerpt));
+    }
+
+    /**
+     * Search blogs by title, streaming the blogs of the page as newline delimited JSON without totals.
+     * GET /api/v1/blogs/search with Accept application/x-ndjson
+     *
+     * @return Flux<BlogRes> - The blogs of the page as DTO.
+     */
+    @GetMapping(value = APIEndPoints.BLOG_V1_BASE + "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BlogRes> streamSearchBlogsByTitle(
+            @RequestParam String title,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer excerpt) {
+        return blogService.streamSearchBlogsByTitle(title, page, size, sortBy, sortDir,
+                BlogFieldsConverter.parse(fields, excerpt));
+    }
+
+    /**
+     * Create a new blog.
+     * POST /api/v1/blogs
+     *
+     * @param req - Object containing the information needed to create the blog.
+     * @return Mono<BlogRes> - The newly created blog information as a DTO.
+     */
+    @PostMapping(APIEndPoints.BLOG_V1_BASE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<BlogRes> createBlog(@RequestBody @Valid BlogReq req) {
+        return blogService.addBlog(req);
+    }
+
+    /**
+     * Update a blog's information based on ID.
+     * PUT /api/v1/blogs/{id}
+     *
+     * @param id - ID of the blog to update.
+     * @param req - Object containing the information to update.
+     * @return Mono<BlogRes> - Blog information after update as DTO.
+     */
+    @PutMapping(APIEndPoints.BLOG_V1_BASE + "/{id}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<BlogRes> updateBlog(@PathVariable String id, @RequestBody @Valid BlogReq req) {
+        return blogService.updateBlog(id, req);
+    }
+
+    /**
+     * Change only the given fields of a blog based on ID.
+     * PATCH /api/v1/blogs/{id} with Content-Type application/merge-patch+json
+     *
+     * @param id - ID of the blog to patch.
+     * @param req - Fields to change.
+     * @return Mono<BlogRes> - Blog information after the patch as DTO.
+     */
+    @PatchMapping(value = APIEndPoints.BLOG_V1_BASE + "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<BlogRes> patchBlog(@PathVariable String id, @RequestBody @Valid BlogPatchReq req) {
+        return blogService.patchBlog(id, req);
+    }
+
+    /**
+     * Delete a blog based on ID.
+     * DELETE /api/v1/blogs/{id}
+     *
+     * @param id - ID of the blog to delete.
+     * @return Mono<Void> - Completes when the blog is deleted.
+     */
+    @DeleteMapping(APIEndPoints.BLOG_V1_BASE + "/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteBlog(@PathVariable String id) {
+        return blogService.deleteBlog(id);
+    }
+}
@@ -0,0 +1,97 @@
+package com.test.bloggingplatformapi.controller;
+
+import com.test.bloggingplatformapi.cache.SendBufferPool;
+import com.test.bloggingplatformapi.cache.SnapshotSink;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.converter.BlogStreamWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.connector.CoyoteOutputStream;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes blog snapshots as response bodies, and ByteBuffers to Tomcat's response stream.
+ * A cached snapshot that fits the response buffer is copied straight into it, so it reaches the socket only after the
+ * cache memory is released. A larger one is copied into a pooled heap buffer first and sent from there, so a slow
+ * client never holds cache memory and the response buffer is never grown.
+ */
+@Profile("!reactive")
+@Component
+public class SnapshotResponseWriter {
+    private final SendBufferPool sendBuffers;
+
+    public SnapshotResponseWriter(BlogProperties blogProperties) {
+        this.sendBuffers = new SendBufferPool(blogProperties.getCache().getSendBuffers());
+    }
+
+    /**
+     * Sends a snapshot as the response, with its ETag and Last-Modified headers.
+     *
+     * @param response - Response to write to.
+     * @param source - Hands the snapshot to the given sink, e.g. BlogService.sendBlogSnapshot.
+     */
+    public void send(HttpServletResponse response, SnapshotSource source) throws IOException {
+        final Copy copy = new Copy();
+        try {
+            source.sendTo((stamp, json) -> {
+                response.setHeader(HttpHeaders.ETAG, stamp.eTag());
+                if (stamp.lastModified() >= 0) {
+                    response.setDateHeader(HttpHeaders.LAST_MODIFIED, stamp.lastModified());
+                }
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.setContentLength(json.remaining());
+                if (!json.isDirect() || json.remaining() < response.getBufferSize()) {
+                    writeBuffer(response.getOutputStream(), json);
+                    return;
+                }
+                copy.length = json.remaining();
+                copy.bytes = sendBuffers.acquire(copy.length);
+                json.get(copy.bytes, 0, copy.length);
+            });
+            if (copy.bytes != null) {
+                response.getOutputStream().write(copy.bytes, 0, copy.length);
+            }
+        } finally {
+            if (copy.bytes != null) {
+                sendBuffers.release(copy.bytes);
+            }
+        }
+    }
+
+    /**
+     * BlogStreamWriter.writeBuffer, but handing the buffer to Tomcat's response stream as it is, so a direct buffer is
+     * copied once, into the response buffer, without a heap chunk.
+     *
+     * @param out - Stream to write to.
+     * @param buffer - Bytes to write; consumed.
+     */
+    public static void writeBuffer(OutputStream out, ByteBuffer buffer) throws IOException {
+        if (out instanceof CoyoteOutputStream coyote) {
+            coyote.write(buffer);
+        } else {
+            BlogStreamWriter.writeBuffer(out, buffer);
+        }
+    }
+
+    /**
+     * A snapshot copied out of the cache, to send once the cache memory is released.
+     */
+    private static final class Copy {
+        private byte[] bytes;
+        private int length;
+    }
+
+    /**
+     * Hands a snapshot to a sink, once at most.
+     */
+    @FunctionalInterface
+    public interface SnapshotSource {
+        void sendTo(SnapshotSink sink) throws IOException;
+    }
+}
@@ -0,0 +1,101 @@
+package com.test.bloggingplatformapi.converter;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.Binary;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Storage codec of Blog.content.
+ * With blog.content-compression.enabled, content of at least min-size UTF-8 bytes is stored as deflate
+ * compressed binary (user defined subtype 0x80) when that is smaller; shorter content stays a string.
+ * Reading accepts both forms, so documents written before or after the switch can be mixed; content is
+ * never binary otherwise, so any binary value is taken as compressed.
+ * Compressed content is only stored as a string again when it is written with the switch off.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogContentConverter implements MongoValueConverter<String, Object> {
+
+    public static final byte DEFLATE_SUBTYPE = (byte) 0x80;
+
+    private final BlogProperties blogProperties;
+
+    @Override
+    public String read(Object value, MongoConversionContext context) {
+        if (value instanceof Binary binary) {
+            return inflate(binary.getData());
+        }
+        if (value instanceof byte[] bytes) {
+            return inflate(bytes);
+        }
+        return value.toString();
+    }
+
+    @Override
+    public Object write(String value, MongoConversionContext context) {
+        final BlogProperties.ContentCompression compression = blogProperties.getContentCompression();
+        if (!compression.isEnabled()) {
+            return value;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < compression.getMinSize().toBytes()) {
+            return value;
+        }
+        final byte[] compressed = deflate(bytes, compression.getLevel());
+        return compressed.length < bytes.length ? new Binary(DEFLATE_SUBTYPE, compressed) : value;
+    }
+
+    /**
+     * @param bytes - Bytes to compress.
+     * @param level - Deflate level, 1 (fastest) to 9 (smallest), -1 for the default.
+     * @return byte[] - The raw deflate stream, without zlib header or checksum.
+     */
+    public static byte[] deflate(byte[] bytes, int level) {
+        final Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 64);
+            final byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String inflate(byte[] compressed) {
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            final byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                final int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new UncheckedIOException(new IOException("Truncated compressed blog content"));
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException ex) {
+            throw new UncheckedIOException(new IOException("Corrupt compressed blog content", ex));
+        } finally {
+            inflater.end();
+        }
+    }
+}
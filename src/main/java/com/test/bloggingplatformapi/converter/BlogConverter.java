@@ -1,6 +1,7 @@
 package com.test.bloggingplatformapi.converter;
 
 import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
 import com.test.bloggingplatformapi.dtos.res.BlogReq;
 import com.test.bloggingplatformapi.model.entity.Blog;
 import com.test.bloggingplatformapi.model.enums.ObjStatus;
@@ -30,10 +31,25 @@ public class BlogConverter {
                 .content(req.getContent())
                 .category(req.getCategory())
                 .tags(req.getTags())
-                .ObjStatus(ObjStatus.ACTIVE)
+                .objStatus(ObjStatus.ACTIVE)
                 .build();
     }
 
+    /**
+     * Converts a BlogPatchReq to a Blog holding only the fields to change; the others stay null.
+     *
+     * @param req The BlogPatchReq to convert.
+     * @return The converted Blog.
+     */
+    public static Blog convertPatchToEntity(BlogPatchReq req) {
+        return Blog
+                .builder()
+                .title(req.getTitle())
+                .content(req.getContent())
+                .category(req.getCategory())
+                .tags(req.getTags())
+                .build();
+    }
 
     /**
      * Converts a Blog to a BlogRes.
@@ -49,7 +65,8 @@ public class BlogConverter {
                 blog.getCategory(),
                 blog.getTags(),
                 blog.getCreatedAt(),
-                blog.getUpdatedAt()
+                blog.getUpdatedAt(),
+                blog.getVersion()
         );
     }
 
@@ -75,10 +92,10 @@ public class BlogConverter {
      * @param reqs The list of BlogReq objects to convert.
      * @return The list of converted Blog objects.
      */
-    public Set<Blog> convertToEntitySet(Set<BlogReq> reqs) {
+    public static List<Blog> convertToEntityList(List<BlogReq> reqs) {
         return reqs.stream()
                 .map(BlogConverter::convertToEntity)
-                .collect(Collectors.toSet());
+                .toList();
     }
 
 }
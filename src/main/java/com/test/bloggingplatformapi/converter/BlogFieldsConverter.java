@@ -0,0 +1,59 @@
+package com.test.bloggingplatformapi.converter;
+
+import com.test.bloggingplatformapi.exception.BadRequestException;
+import com.test.bloggingplatformapi.exception.ErrorCode;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Converter for turning the fields/excerpt request parameters into a BlogFields selection.
+ */
+@Component
+public class BlogFieldsConverter {
+    private static final String SUMMARY_VIEW = "summary";
+
+    /**
+     * Parses a comma separated list of fields, or "summary" for every field but content.
+     *
+     * @param fields The requested fields, null for all fields.
+     * @param excerpt The number of content characters to return, null for the full content.
+     * @return The parsed selection.
+     * @throws BadRequestException If a field is unknown or the excerpt is not positive.
+     */
+    public static BlogFields parse(String fields, Integer excerpt) {
+        if (excerpt != null && excerpt <= 0) {
+            throw new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(), "Excerpt must be positive!");
+        }
+        final int excerptLength = excerpt == null ? 0 : excerpt;
+
+        if (fields == null || fields.isBlank()) {
+            return new BlogFields(BlogFields.ALLOWED, excerptLength);
+        }
+        if (SUMMARY_VIEW.equalsIgnoreCase(fields.trim())) {
+            return new BlogFields(BlogFields.SUMMARY, excerptLength);
+        }
+
+        final Set<String> requested = new HashSet<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(field -> {
+                    if (!BlogFields.ALLOWED.contains(field)) {
+                        throw new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(),
+                                "Unknown field: " + field);
+                    }
+                    requested.add(field);
+                });
+        requested.add("id");
+        requested.add("updatedAt");
+        requested.add("version");
+
+        return new BlogFields(
+                BlogFields.ALLOWED.stream().filter(requested::contains).toList(),
+                excerptLength);
+    }
+}
@@ -0,0 +1,46 @@
+package com.test.bloggingplatformapi.converter;
+
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Converter for building HTTP validators (ETag, Last-Modified) of pages of blogs.
+ */
+@Component
+public class BlogStampConverter {
+
+    /**
+     * Builds a weak entity tag from the blogs of a page and the total it reports.
+     *
+     * @param content The blogs of the page, in response order.
+     * @param total Extra value that changes the representation (e.g. total elements), or -1.
+     * @param variant Selection that changes the representation (e.g. the sparse fieldset).
+     * @return The entity tag.
+     */
+    public static String pageETag(Collection<BlogRes> content, long total, String variant) {
+        final StringBuilder key = new StringBuilder(variant).append('|').append(total);
+        content.forEach(blog -> key
+                .append('|').append(blog.id())
+                .append('@').append(BlogStamp.toEpochMillis(blog.updatedAt())));
+
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Returns the most recent modification time of the blogs of a page.
+     *
+     * @param content The blogs of the page.
+     * @return The modification time in epoch milliseconds, -1 when the page is empty.
+     */
+    public static long lastModified(Collection<BlogRes> content) {
+        return content.stream()
+                .mapToLong(blog -> BlogStamp.toEpochMillis(blog.updatedAt()))
+                .max()
+                .orElse(-1);
+    }
+}
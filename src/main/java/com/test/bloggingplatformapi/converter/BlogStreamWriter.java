@@ -0,0 +1,97 @@
+package com.test.bloggingplatformapi.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+/**
+ * Writes blogs to an output stream one element at a time, so the full result never sits on the heap.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogStreamWriter {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes the blogs produced by the source as a single JSON array.
+     *
+     * @param out - Stream to write to.
+     * @param source - Pushes each blog to the given consumer.
+     */
+    public void writeJsonArray(OutputStream out, Consumer<Consumer<BlogRes>> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            source.accept(blog -> write(generator, blog));
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes the blogs produced by the source as newline delimited JSON (one object per line).
+     *
+     * @param out - Stream to write to.
+     * @param source - Pushes each blog to the given consumer.
+     */
+    public void writeNdJson(OutputStream out, Consumer<Consumer<BlogRes>> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            source.accept(blog -> {
+                write(generator, blog);
+                writeNewLine(generator);
+            });
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer.
+     * A stream that is also a WritableByteChannel takes the buffer as it is; other streams get it through the backing
+     * array, or a small heap chunk for a direct buffer.
+     *
+     * @param out - Stream to write to.
+     * @param buffer - Bytes to write; consumed.
+     */
+    public static void writeBuffer(OutputStream out, ByteBuffer buffer) throws IOException {
+        if (out instanceof WritableByteChannel channel) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } else if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else {
+            final byte[] chunk = new byte[Math.min(buffer.remaining(), CHUNK_SIZE)];
+            while (buffer.hasRemaining()) {
+                final int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                out.write(chunk, 0, length);
+            }
+        }
+    }
+
+    private void write(JsonGenerator generator, BlogRes blog) {
+        try {
+            generator.writeObject(blog);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeNewLine(JsonGenerator generator) {
+        try {
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
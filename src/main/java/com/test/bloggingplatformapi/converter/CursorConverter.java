@@ -0,0 +1,120 @@
+package com.test.bloggingplatformapi.converter;
+
+import com.test.bloggingplatformapi.exception.BadRequestException;
+import com.test.bloggingplatformapi.exception.ErrorCode;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.pagination.BlogCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Converter for encoding a BlogCursor into an opaque continuation token and back.
+ */
+@Component
+public class CursorConverter {
+
+    /**
+     * Fields a keyset page can be sorted by.
+     */
+    public static final Set<String> SORT_FIELDS = Set.of("title", "createdAt", "updatedAt");
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Builds the cursor pointing after the given blog.
+     *
+     * @param blog The last blog of the page.
+     * @param sortBy The field the page is sorted by.
+     * @param direction The sort direction.
+     * @return The cursor for the next page.
+     */
+    public static BlogCursor cursorAfter(Blog blog, String sortBy, Sort.Direction direction) {
+        final Object value = switch (sortBy) {
+            case "title" -> blog.getTitle();
+            case "createdAt" -> blog.getCreatedAt();
+            case "updatedAt" -> blog.getUpdatedAt();
+            default -> throw invalidSortField(sortBy);
+        };
+        return new BlogCursor(sortBy, direction, value, blog.getId());
+    }
+
+    /**
+     * Encodes a cursor into a URL safe token.
+     *
+     * @param cursor The cursor to encode.
+     * @return The encoded token.
+     */
+    public static String encode(BlogCursor cursor) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(cursor.sortBy());
+            out.writeUTF(cursor.direction().name());
+            // A flag, so a blog without a value for the sort field (e.g. written before it existed) keeps its null
+            out.writeBoolean(cursor.value() != null);
+            if (cursor.value() != null) {
+                out.writeUTF(cursor.value().toString());
+            }
+            out.writeUTF(cursor.id());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return ENCODER.encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode(BlogCursor)}.
+     *
+     * @param token The token to decode.
+     * @return The decoded cursor.
+     * @throws BadRequestException If the token is malformed.
+     */
+    public static BlogCursor decode(String token) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(DECODER.decode(token)))) {
+            final String sortBy = in.readUTF();
+            final Sort.Direction direction = Sort.Direction.valueOf(in.readUTF());
+            final String value = in.readBoolean() ? in.readUTF() : null;
+            final String id = in.readUTF();
+
+            return new BlogCursor(sortBy, direction, value == null ? null : parseValue(sortBy, value), id);
+        } catch (IOException | IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(), "Invalid cursor!");
+        }
+    }
+
+    /**
+     * Checks that the field can be used as a keyset sort key.
+     *
+     * @param sortBy The field to check.
+     * @throws BadRequestException If the field is not supported.
+     */
+    public static void requireSortField(String sortBy) {
+        if (!SORT_FIELDS.contains(sortBy)) {
+            throw invalidSortField(sortBy);
+        }
+    }
+
+    private static Object parseValue(String sortBy, String value) {
+        return switch (sortBy) {
+            case "title" -> value;
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            default -> throw invalidSortField(sortBy);
+        };
+    }
+
+    private static BadRequestException invalidSortField(String sortBy) {
+        return new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(),
+                "Unsupported sort field: " + sortBy);
+    }
+}
@@ -1,19 +1,23 @@
 package com.test.bloggingplatformapi.dtos.req;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.test.bloggingplatformapi.model.enums.Category;
 import com.test.bloggingplatformapi.model.enums.Tag;
+import lombok.With;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Set;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record BlogRes(
         String id,
         String title,
         String content,
         Category category,
         Set<Tag> tags,
-        LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        @With LocalDateTime createdAt,
+        @With LocalDateTime updatedAt,
+        Long version
 ) implements Serializable {
 }
@@ -0,0 +1,29 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.test.bloggingplatformapi.model.enums.BulkItemStatus;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of one item of a bulk request.
+ *
+ * @param index - Position of the item in the request.
+ * @param id - ID of the blog, null when the item was rejected before it had one.
+ * @param status - What happened to the item.
+ * @param error - Why the item failed, null on success.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemRes(
+        int index,
+        String id,
+        BulkItemStatus status,
+        String error
+) implements Serializable {
+
+    public boolean succeeded() {
+        return status == BulkItemStatus.CREATED ||
+                status == BulkItemStatus.UPDATED ||
+                status == BulkItemStatus.DELETED;
+    }
+}
@@ -0,0 +1,16 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record BulkRes(
+        List<BulkItemRes> items,
+        int succeeded,
+        int failed
+) implements Serializable {
+
+    public static BulkRes of(List<BulkItemRes> items) {
+        final int succeeded = (int) items.stream().filter(BulkItemRes::succeeded).count();
+        return new BulkRes(items, succeeded, items.size() - succeeded);
+    }
+}
@@ -0,0 +1,13 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import java.io.Serializable;
+
+public record CacheStatsRes(
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long estimatedSize,
+        long weightedSizeBytes
+) implements Serializable {
+}
@@ -0,0 +1,16 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public record ChangeStreamStatsRes(
+        boolean enabled,
+        boolean connected,
+        String nodeId,
+        long events,
+        long restarts,
+        LocalDateTime lastEventAt,
+        long lastLagMs,
+        LocalDateTime tokenSavedAt
+) implements Serializable {
+}
@@ -0,0 +1,11 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import java.io.Serializable;
+
+public record CoalescingStatsRes(
+        long blogByIdLoads,
+        long blogByIdCoalesced,
+        long searchExecuted,
+        long searchCoalesced
+) implements Serializable {
+}
@@ -0,0 +1,22 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of one tombstone compaction run.
+ *
+ * @param removed - Number of DELETED blogs removed.
+ * @param archived - Whether they were copied to the archive collection first.
+ * @param bytesReclaimed - Total BSON size of the removed documents; the storage engine reuses the space
+ *                       but only returns it to the file system after a compact.
+ * @param batches - Number of batches run.
+ * @param durationMs - Time the run took.
+ */
+public record CompactionRes(
+        long removed,
+        boolean archived,
+        long bytesReclaimed,
+        int batches,
+        long durationMs
+) implements Serializable {
+}
@@ -0,0 +1,14 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public record CompactionStatsRes(
+        boolean running,
+        long runs,
+        long totalRemoved,
+        long totalBytesReclaimed,
+        LocalDateTime lastRunAt,
+        CompactionRes lastRun
+) implements Serializable {
+}
@@ -0,0 +1,12 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record CursorPageRes<T>(
+        List<T> content,
+        int pageSize,
+        String nextCursor,
+        boolean last
+) implements Serializable {
+}
@@ -0,0 +1,22 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Number of ACTIVE blogs per category and per tag.
+ *
+ * @param categories - Count of each category, zero included.
+ * @param tags - Count of each tag, zero included.
+ * @param reconciledAt - When the counts were last recomputed from the blogs collection.
+ */
+public record FacetsRes(
+        Map<Category, Long> categories,
+        Map<Tag, Long> tags,
+        LocalDateTime reconciledAt
+) implements Serializable {
+}
@@ -0,0 +1,17 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public record OutboxStatsRes(
+        boolean enabled,
+        long pending,
+        long dispatched,
+        long redelivered,
+        long failedBatches,
+        long failedEntries,
+        long deadLettered,
+        long transactionRetries,
+        LocalDateTime lastDispatchAt
+) implements Serializable {
+}
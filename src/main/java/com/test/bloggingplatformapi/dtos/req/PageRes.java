@@ -1,5 +1,7 @@
 package com.test.bloggingplatformapi.dtos.req;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.io.Serializable;
 import java.util.Set;
 
@@ -9,6 +11,16 @@ public record PageRes<T>(
         int pageSize,
         long totalElements,
         int totalPages,
-        boolean last
+        boolean last,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        FacetsRes facets
 ) implements Serializable {
+
+    public PageRes(Set<T> content, int pageNo, int pageSize, long totalElements, int totalPages, boolean last) {
+        this(content, pageNo, pageSize, totalElements, totalPages, last, null);
+    }
+
+    public PageRes<T> withFacets(FacetsRes facets) {
+        return new PageRes<>(content, pageNo, pageSize, totalElements, totalPages, last, facets);
+    }
 }
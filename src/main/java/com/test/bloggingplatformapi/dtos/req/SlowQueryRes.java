@@ -0,0 +1,53 @@
+package com.test.bloggingplatformapi.dtos.req;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * A Mongo command on the blogs collection that took longer than blog.profiler.slow-threshold.
+ * The plan fields are filled in once the background explain has run, and stay null when it was skipped.
+ *
+ * @param id - Sequence number of the entry.
+ * @param at - When the command finished.
+ * @param command - Command name, e.g. find, aggregate, update.
+ * @param shape - The command with every value replaced by "?", so equal shapes group together.
+ * @param durationMs - Time the command took, as seen by the driver.
+ * @param failed - True if the command returned an error.
+ * @param planSummary - Stages of the winning plan, outermost first, with the index each scan used.
+ * @param collectionScan - True if the winning plan scans the whole collection.
+ * @param docsExamined - Documents read by the explained command.
+ * @param keysExamined - Index keys read by the explained command.
+ * @param returned - Documents returned by the explained command.
+ * @param explainError - Why explain failed, if it did.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SlowQueryRes(
+        long id,
+        LocalDateTime at,
+        String database,
+        String collection,
+        String command,
+        String shape,
+        long durationMs,
+        boolean failed,
+        String planSummary,
+        Boolean collectionScan,
+        Long docsExamined,
+        Long keysExamined,
+        Long returned,
+        String explainError
+) implements Serializable {
+
+    public SlowQueryRes withPlan(String planSummary, boolean collectionScan,
+                                 Long docsExamined, Long keysExamined, Long returned) {
+        return new SlowQueryRes(id, at, database, collection, command, shape, durationMs, failed,
+                planSummary, collectionScan, docsExamined, keysExamined, returned, null);
+    }
+
+    public SlowQueryRes withExplainError(String explainError) {
+        return new SlowQueryRes(id, at, database, collection, command, shape, durationMs, failed,
+                null, null, null, null, null, explainError);
+    }
+}
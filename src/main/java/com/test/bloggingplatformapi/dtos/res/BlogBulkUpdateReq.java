@@ -0,0 +1,23 @@
+package com.test.bloggingplatformapi.dtos.res;
+
+import com.test.bloggingplatformapi.constants.MessageException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder @Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogBulkUpdateReq {
+
+    @NotBlank(message = MessageException.MSG_ID_NOT_NULL)
+    private String id;
+
+    @Valid
+    @NotNull(message = MessageException.MSG_BLOG_NOT_NULL)
+    private BlogReq blog;
+}
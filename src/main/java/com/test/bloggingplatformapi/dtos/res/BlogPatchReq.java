@@ -0,0 +1,41 @@
+package com.test.bloggingplatformapi.dtos.res;
+
+import com.test.bloggingplatformapi.constants.MessageException;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * JSON merge patch of a blog: only the fields present are changed.
+ * Null is treated as absent, since none of the fields can be removed.
+ */
+@Builder @Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPatchReq {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = MessageException.MSG_TITLE_NOT_BLANK)
+    private String title;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = MessageException.MSG_CONTENT_NOT_BLANK)
+    private String content;
+
+    private Category category;
+
+    private Set<Tag> tags;
+
+    /**
+     * Version the client read; the patch is rejected with 409 if the blog changed since.
+     */
+    private Long version;
+
+    public boolean isEmpty() {
+        return title == null && content == null && category == null && tags == null;
+    }
+}
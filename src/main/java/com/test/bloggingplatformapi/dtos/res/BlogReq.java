@@ -29,4 +29,9 @@ public class BlogReq {
 
     @Builder.Default
     private Set<Tag> tags = new HashSet<>();
+
+    /**
+     * Version the client read, checked on update; ignored on create.
+     */
+    private Long version;
 }
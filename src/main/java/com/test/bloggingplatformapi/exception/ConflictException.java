@@ -0,0 +1,9 @@
+package com.test.bloggingplatformapi.exception;
+
+public class ConflictException extends CustomException {
+
+    public ConflictException(String message) {
+        super(ErrorCode.CONCURRENT_MODIFICATION.getErrCode(), message);
+    }
+
+}
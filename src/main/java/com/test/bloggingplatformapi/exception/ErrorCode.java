@@ -19,7 +19,8 @@ public enum ErrorCode {
     HTTP_MESSAGE_NOT_READABLE("PACKT-0010", "Invalid request payload. Ensure JSON/XML format."),
     HTTP_MESSAGE_NOT_WRITABLE("PACKT-0011", "Missing or invalid 'Accept' header."),
     HTTP_MEDIA_TYPE_NOT_ACCEPTABLE("PACKT-0012", "Unsupported 'Accept' header. Use JSON or XML."),
-    JSON_PARSE_ERROR("PACKT-0013", "Make sure request payload should be a valid JSON object.");
+    JSON_PARSE_ERROR("PACKT-0013", "Make sure request payload should be a valid JSON object."),
+    CONCURRENT_MODIFICATION("PACKT-0014", "Resource was modified by another request.");
 
     private final String errCode;
     private final String errMessage;
@@ -3,7 +3,9 @@ package com.test.bloggingplatformapi.exception;
 import com.fasterxml.jackson.core.JsonParseException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
@@ -18,6 +20,7 @@ import org.springframework.web.server.MethodNotAllowedException;
 import java.time.Instant;
 import java.util.stream.Collectors;
 
+@Profile("!reactive")
 @RestControllerAdvice
 @Slf4j
 public class GlobalException {
@@ -152,6 +155,33 @@ public class GlobalException {
         return buildResponse(ErrorCode.GENERIC_ERROR, HttpStatus.BAD_REQUEST, request, ex);
     }
 
+    /**
+     * Handles updates rejected because the blog changed since the client read it (stale version).
+     *
+     * @param request - HttpServletRequest containing information about the request.
+     * @param ex - Exception thrown.
+     * @return ExceptionRes - Object containing error information.
+     */
+    @ExceptionHandler({
+            ConflictException.class,
+            OptimisticLockingFailureException.class
+    })
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionRes handleConcurrentModificationErrors(HttpServletRequest request, Exception ex) {
+        if (ex instanceof ConflictException conflictEx) {
+            return new ExceptionRes(
+                    conflictEx.getErrCode(),
+                    conflictEx.getErrMsg(),
+                    HttpStatus.CONFLICT.value(),
+                    request.getRequestURL().toString(),
+                    request.getMethod(),
+                    Instant.now()
+            );
+        }
+        log.warn("Optimistic locking failure", ex);
+        return buildResponse(ErrorCode.CONCURRENT_MODIFICATION, HttpStatus.CONFLICT, request, ex);
+    }
+
     /**
      * Constructs an ExceptionRes object from the error information.
      *
@@ -0,0 +1,63 @@
+package com.test.bloggingplatformapi.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.Instant;
+import java.util.stream.Collectors;
+
+/**
+ * Error responses of the "reactive" profile, in the same ExceptionRes shape as GlobalException.
+ */
+@Profile("reactive")
+@RestControllerAdvice
+@Slf4j
+public class ReactiveGlobalException {
+
+    @ExceptionHandler(NotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ExceptionRes handleNotFoundErrors(ServerHttpRequest request, NotFoundException ex) {
+        return buildResponse(ex.getErrCode(), ex.getErrMsg(), HttpStatus.NOT_FOUND, request);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionRes handleBadRequestErrors(ServerHttpRequest request, BadRequestException ex) {
+        return buildResponse(ex.getErrCode(), ex.getErrMsg(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionRes handleConcurrentModificationErrors(ServerHttpRequest request, ConflictException ex) {
+        return buildResponse(ex.getErrCode(), ex.getErrMsg(), HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionRes handleValidationErrors(ServerHttpRequest request, WebExchangeBindException ex) {
+        log.warn("Method argument not valid", ex);
+        final String message = ex.getAllErrors()
+                .stream()
+                .map(DefaultMessageSourceResolvable::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+        return buildResponse(ErrorCode.CONSTRAINT_VIOLATION.getErrCode(), message, HttpStatus.BAD_REQUEST, request);
+    }
+
+    private ExceptionRes buildResponse(String code, String message, HttpStatus status, ServerHttpRequest request) {
+        return new ExceptionRes(
+                code,
+                message,
+                status.value(),
+                request.getURI().toString(),
+                request.getMethod().name(),
+                Instant.now()
+        );
+    }
+}
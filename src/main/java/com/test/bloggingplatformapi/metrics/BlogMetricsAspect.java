@@ -0,0 +1,67 @@
+package com.test.bloggingplatformapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every call to BlogService, tagged with the method and the exception thrown (or "none"),
+ * and counts the documents search matched against the ones it returned.
+ * Repository calls are timed by Spring Data as spring.data.repository.invocations and Mongo commands by the driver
+ * as mongodb.driver.commands.
+ * Methods returning a Stream are timed up to the opening of the cursor; the reads happen while the response is written
+ * and show in http.server.requests.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class BlogMetricsAspect {
+    static final String SERVICE_TIMER = "blog.service";
+    static final String SEARCH_MATCHED = "blog.search.documents.matched";
+    static final String SEARCH_RETURNED = "blog.search.documents.returned";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.test.bloggingplatformapi.service.BlogService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(SERVICE_TIMER)
+                    .description("Time spent in BlogService methods")
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Matched is the total the page count query found, returned the size of the page sent back;
+     * a wide gap means clients page deep into broad searches.
+     */
+    @AfterReturning(
+            pointcut = "execution(* com.test.bloggingplatformapi.repository.BlogRepositoryCustom.searchByText(..))",
+            returning = "page")
+    public void countSearch(Page<?> page) {
+        Counter.builder(SEARCH_MATCHED)
+                .description("Documents matched by blog searches")
+                .register(meterRegistry)
+                .increment(page.getTotalElements());
+        Counter.builder(SEARCH_RETURNED)
+                .description("Documents returned by blog searches")
+                .register(meterRegistry)
+                .increment(page.getNumberOfElements());
+    }
+}
@@ -0,0 +1,155 @@
+package com.test.bloggingplatformapi.metrics;
+
+import com.test.bloggingplatformapi.controller.SnapshotResponseWriter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Records the bytes written for each response as http.server.response.size, tagged like http.server.requests.
+ * Bytes are counted as they pass through the output stream rather than read from Content-Length, which streamed
+ * responses do not set, so the response is never buffered. Bodies written through getWriter (container error pages)
+ * are not counted.
+ */
+@Profile("!reactive")
+@Component
+@RequiredArgsConstructor
+public class ResponseSizeFilter extends OncePerRequestFilter {
+    static final String RESPONSE_SIZE = "http.server.response.size";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws ServletException, IOException {
+        final CountingResponse counting = new CountingResponse(res);
+        try {
+            chain.doFilter(req, counting);
+        } finally {
+            if (req.isAsyncStarted()) {
+                req.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(req, counting);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(req, counting);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest req, CountingResponse res) {
+        final Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(RESPONSE_SIZE)
+                .description("Size of the serialized HTTP response bodies")
+                .baseUnit("bytes")
+                .tag("method", req.getMethod())
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .tag("status", String.valueOf(res.getStatus()))
+                .register(meterRegistry)
+                .record(res.bytes);
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+        private long bytes;
+        private ServletOutputStream outputStream;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        /**
+         * A WritableByteChannel too, so a ByteBuffer written through SnapshotResponseWriter.writeBuffer still reaches
+         * Tomcat without a heap copy.
+         */
+        private final class CountingOutputStream extends ServletOutputStream implements WritableByteChannel {
+            private final ServletOutputStream delegate;
+
+            private CountingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                bytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                bytes += len;
+            }
+
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                final int length = src.remaining();
+                SnapshotResponseWriter.writeBuffer(delegate, src);
+                bytes += length;
+                return length;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
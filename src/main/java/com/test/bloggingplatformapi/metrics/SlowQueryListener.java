@@ -0,0 +1,264 @@
+package com.test.bloggingplatformapi.metrics;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.SlowQueryRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every Mongo command on the blogs collection and records the ones slower than blog.profiler.slow-threshold
+ * in the SlowQueryLog, then explains them in the background with executionStats verbosity to capture the winning
+ * plan and the documents and keys examined. The explain runs on a single thread with a short queue; when it is
+ * full, or the same shape was explained less than blog.profiler.explain-interval ago, the entry keeps no plan.
+ * Each slow command also increments blog.mongo.slow.commands.
+ */
+@Slf4j
+@Component
+public class SlowQueryListener implements CommandListener, MongoClientSettingsBuilderCustomizer, DisposableBean {
+    static final String SLOW_COMMANDS = "blog.mongo.slow.commands";
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+
+    private static final Set<String> EXPLAINABLE =
+            Set.of("find", "aggregate", "count", "distinct", "update", "delete", "findAndModify");
+
+    /**
+     * Parts of a command that describe the query; the rest (session, cluster time, write concern...) is dropped.
+     */
+    private static final Set<String> QUERY_FIELDS = Set.of(
+            "filter", "sort", "projection", "limit", "skip", "hint", "pipeline", "query", "key",
+            "update", "fields", "new", "remove", "upsert", "updates", "deletes");
+
+    private static final Set<String> UNMASKED_FIELDS = Set.of("sort", "projection", "fields");
+
+    private final BlogProperties.Profiler profiler;
+    private final SlowQueryLog slowQueryLog;
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String collection;
+    private final Map<Integer, BsonDocument> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Long> explainedAt = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(16), runnable -> {
+                final Thread thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    public SlowQueryListener(BlogProperties blogProperties, SlowQueryLog slowQueryLog,
+                             ObjectProvider<MongoTemplate> mongoTemplate, MeterRegistry meterRegistry) {
+        this.profiler = blogProperties.getProfiler();
+        this.slowQueryLog = slowQueryLog;
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.collection = Blog.class
+                .getAnnotation(org.springframework.data.mongodb.core.mapping.Document.class)
+                .collection();
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder builder) {
+        if (profiler.isEnabled()) {
+            builder.addCommandListener(this);
+        }
+    }
+
+    /**
+     * Keeps a copy of the query part of each command on the blogs collection; the event's own document is only
+     * valid during the callback. Write statements other than the first of a batch are not copied.
+     */
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        final BsonDocument command = event.getCommand();
+        final BsonValue target = command.get(event.getCommandName());
+        if (target == null || !target.isString() || !collection.equals(target.asString().getValue())) {
+            return;
+        }
+        final BsonDocument query = new BsonDocument(event.getCommandName(), new BsonString(collection));
+        for (Map.Entry<String, BsonValue> field : command.entrySet()) {
+            if (QUERY_FIELDS.contains(field.getKey())) {
+                query.put(field.getKey(), copy(field.getKey(), field.getValue()));
+            }
+        }
+        inFlight.put(event.getRequestId(), query);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event.getRequestId(), event.getDatabaseName(), event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event.getRequestId(), event.getDatabaseName(), event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+
+    @Override
+    public void destroy() {
+        explainer.shutdownNow();
+    }
+
+    private void finished(int requestId, String database, long elapsedNanos, boolean failed) {
+        final BsonDocument query = inFlight.remove(requestId);
+        if (query == null || elapsedNanos < profiler.getSlowThreshold().toNanos()) {
+            return;
+        }
+        final String commandName = query.getFirstKey();
+        final String shape = shape(query).toJson();
+        final SlowQueryRes entry = new SlowQueryRes(slowQueryLog.nextId(), LocalDateTime.now(), database, collection,
+                commandName, shape, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), failed,
+                null, null, null, null, null, null);
+        slowQueryLog.add(entry);
+        meterRegistry.counter(SLOW_COMMANDS, "command", commandName).increment();
+
+        if (profiler.isExplain() && EXPLAINABLE.contains(commandName) && dueForExplain(shape)) {
+            explainer.execute(() -> explain(entry.id(), database, query));
+        }
+    }
+
+    private boolean dueForExplain(String shape) {
+        final long now = System.nanoTime();
+        final long interval = profiler.getExplainInterval().toNanos();
+        final Long previous = explainedAt.get(shape);
+        if (previous != null && now - previous < interval) {
+            return false;
+        }
+        explainedAt.put(shape, now);
+        if (explainedAt.size() > 1000) {
+            explainedAt.values().removeIf(at -> now - at >= interval);
+        }
+        return true;
+    }
+
+    private void explain(long id, String database, BsonDocument query) {
+        final MongoTemplate template = mongoTemplate.getIfAvailable();
+        if (template == null) {
+            return;
+        }
+        try {
+            final Document explained = template.getMongoDatabaseFactory()
+                    .getMongoDatabase(database)
+                    .runCommand(new BsonDocument("explain", query)
+                            .append("verbosity", new BsonString("executionStats")));
+
+            final Object winningPlan = find(explained, "winningPlan");
+            final List<String> stages = new ArrayList<>();
+            collectStages(winningPlan, stages);
+            final Object stats = find(explained, "executionStats");
+            final Document executionStats = stats instanceof Document document ? document : new Document();
+
+            slowQueryLog.update(id, entry -> entry.withPlan(
+                    String.join(" > ", stages),
+                    stages.stream().anyMatch(stage -> stage.startsWith(COLLECTION_SCAN)),
+                    number(executionStats.get("totalDocsExamined")),
+                    number(executionStats.get("totalKeysExamined")),
+                    number(executionStats.get("nReturned"))));
+        } catch (RuntimeException ex) {
+            log.debug("Could not explain slow command {}", query.getFirstKey(), ex);
+            slowQueryLog.update(id, entry -> entry.withExplainError(ex.getMessage()));
+        }
+    }
+
+    /**
+     * Deep copy of a command field, keeping only the first statement of update and delete batches.
+     */
+    private static BsonValue copy(String key, BsonValue value) {
+        if (("updates".equals(key) || "deletes".equals(key)) && value.isArray() && !value.asArray().isEmpty()) {
+            return new BsonArray(List.of(copy(null, value.asArray().get(0))));
+        }
+        if (value.isDocument()) {
+            return value.asDocument().clone();
+        }
+        if (value.isArray()) {
+            return value.asArray().clone();
+        }
+        return value;
+    }
+
+    /**
+     * The command with every value replaced by "?"; the collection, field names, operators
+     * and the sort and projection documents are kept.
+     */
+    private static BsonDocument shape(BsonDocument query) {
+        final BsonDocument shaped = new BsonDocument();
+        query.forEach((key, value) -> shaped.put(key,
+                key.equals(query.getFirstKey()) || UNMASKED_FIELDS.contains(key) ? value : mask(value)));
+        return shaped;
+    }
+
+    private static BsonValue mask(BsonValue value) {
+        if (value.isDocument()) {
+            final BsonDocument masked = new BsonDocument();
+            value.asDocument().forEach((key, child) -> masked.put(key, mask(child)));
+            return masked;
+        }
+        if (value.isArray()) {
+            final BsonArray masked = new BsonArray();
+            value.asArray().forEach(child -> masked.add(mask(child)));
+            return masked;
+        }
+        return new BsonString("?");
+    }
+
+    private static Object find(Object node, String key) {
+        if (node instanceof Document document) {
+            if (document.containsKey(key)) {
+                return document.get(key);
+            }
+            for (Object child : document.values()) {
+                final Object found = find(child, key);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object child : list) {
+                final Object found = find(child, key);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(document.get("indexName") instanceof String index ? stage + "(" + index + ")" : stage);
+            }
+            document.values().forEach(child -> collectStages(child, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(child -> collectStages(child, stages));
+        }
+    }
+
+    private static Long number(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.test.bloggingplatformapi.metrics;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.SlowQueryRes;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Ring buffer of the last blog.profiler.buffer-size slow Mongo commands.
+ */
+@Component
+public class SlowQueryLog {
+    private final int capacity;
+    private final ArrayDeque<SlowQueryRes> entries;
+    private final AtomicLong ids = new AtomicLong();
+
+    public SlowQueryLog(BlogProperties blogProperties) {
+        this.capacity = Math.max(1, blogProperties.getProfiler().getBufferSize());
+        this.entries = new ArrayDeque<>(capacity);
+    }
+
+    public long nextId() {
+        return ids.incrementAndGet();
+    }
+
+    public synchronized void add(SlowQueryRes entry) {
+        if (entries.size() == capacity) {
+            entries.removeFirst();
+        }
+        entries.addLast(entry);
+    }
+
+    /**
+     * Replace an entry, if it has not been dropped from the buffer yet.
+     *
+     * @param id - ID of the entry.
+     * @param update - Function returning the new entry from the current one.
+     */
+    public synchronized void update(long id, UnaryOperator<SlowQueryRes> update) {
+        final List<SlowQueryRes> kept = entries.stream()
+                .map(entry -> entry.id() == id ? update.apply(entry) : entry)
+                .toList();
+        entries.clear();
+        entries.addAll(kept);
+    }
+
+    /**
+     * @return List<SlowQueryRes> - The recorded slow commands, newest first.
+     */
+    public synchronized List<SlowQueryRes> entries() {
+        final List<SlowQueryRes> newestFirst = new ArrayList<>(entries.size());
+        entries.descendingIterator().forEachRemaining(newestFirst::add);
+        return newestFirst;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package com.test.bloggingplatformapi.model.entity;
 
+import com.test.bloggingplatformapi.converter.BlogContentConverter;
 import com.test.bloggingplatformapi.model.enums.Category;
 import com.test.bloggingplatformapi.model.enums.ObjStatus;
 import com.test.bloggingplatformapi.model.enums.Tag;
@@ -7,12 +8,25 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.convert.ValueConverter;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
 import java.util.Set;
 
 @Document(collection = "blogs")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_createdAt", def = "{ 'ObjStatus': 1, 'createdAt': -1, '_id': -1 }"),
+        @CompoundIndex(name = "status_updatedAt", def = "{ 'ObjStatus': 1, 'updatedAt': -1, '_id': -1 }"),
+        @CompoundIndex(name = "status_title", def = "{ 'ObjStatus': 1, 'title': 1, '_id': 1 }"),
+        @CompoundIndex(name = "status_deletedAt", def = "{ 'ObjStatus': 1, 'deletedAt': 1 }")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter @Setter
@@ -22,12 +36,20 @@ public class Blog {
     @Id
     private String id;
 
+    @TextIndexed(weight = 3)
     private String title;
 
+    /**
+     * Stored as deflate compressed binary when blog.content-compression is enabled and it is long enough.
+     */
+    @TextIndexed
+    @ValueConverter(BlogContentConverter.class)
     private String content;
 
+    @Indexed(name = "category")
     private Category category;
 
+    @Indexed(name = "tags")
     private Set<Tag> tags;
 
     @CreatedDate
@@ -36,5 +58,23 @@ public class Blog {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    private ObjStatus ObjStatus;
+    /**
+     * Stored under the "ObjStatus" key that existing documents already use.
+     * Queries refer to the property name (objStatus) and are mapped to that key.
+     */
+    @Field("ObjStatus")
+    private ObjStatus objStatus;
+
+    /**
+     * Incremented by every write; an update that carries a stale version is rejected.
+     * Blogs written before versioning have none until their next update.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * When the blog was marked DELETED; tombstones are purged once it is older than the retention.
+     * Tombstones written before this field existed fall back to updatedAt.
+     */
+    private LocalDateTime deletedAt;
 }
@@ -0,0 +1,58 @@
+package com.test.bloggingplatformapi.model.entity;
+
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Number of ACTIVE blogs per category and per tag, kept in a single document that every API node
+ * increments with the changes it made.
+ * A recount replaces the counts and starts a new epoch; a node only increments the epoch it knows, so changes it
+ * counted before it saw the recount are never added on top of counts that already include them.
+ */
+@Document(collection = "blog_facets")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@Builder
+public class BlogFacetCounts {
+    public static final String ACTIVE_ID = "active";
+
+    @Id
+    private String id;
+
+    private Map<Category, Long> categories;
+
+    private Map<Tag, Long> tags;
+
+    /**
+     * When the counts were last recomputed from the blogs collection.
+     */
+    private LocalDateTime reconciledAt;
+
+    /**
+     * Number of recounts so far, 0 (or missing) before the first one.
+     */
+    private long epoch;
+
+    /**
+     * When the aggregation of the last recount ended: changes made until then are in the counts.
+     */
+    private LocalDateTime countedUntil;
+
+    /**
+     * Node recounting the counts, until reconcilingUntil, so only one node recounts at a time.
+     */
+    private String reconcilingBy;
+
+    private LocalDateTime reconcilingUntil;
+}
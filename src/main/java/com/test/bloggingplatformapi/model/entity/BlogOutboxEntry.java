@@ -0,0 +1,73 @@
+package com.test.bloggingplatformapi.model.entity;
+
+import com.test.bloggingplatformapi.model.enums.BlogOperation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to a blog whose side effects have not been handled yet, written in the same transaction as the change.
+ * Removed once every consumer has handled it; an entry whose claim expired is handed out again.
+ */
+@Document(collection = "blog_outbox")
+@CompoundIndex(name = "claimedUntil_id", def = "{'claimedUntil': 1, '_id': 1}")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@Builder
+public class BlogOutboxEntry {
+
+    /**
+     * ObjectId, so entries sort in the order they were written.
+     */
+    @Id
+    private String id;
+
+    private String blogId;
+
+    private BlogOperation operation;
+
+    /**
+     * Version of the blog after the change.
+     */
+    private Long version;
+
+    /**
+     * Category and tags of the blog before the change, null when created.
+     */
+    private Blog before;
+
+    /**
+     * Category and tags of the blog after the change, null when deleted.
+     */
+    private Blog after;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * The entry can be claimed from then on; set to the creation time, then to the end of each claim.
+     */
+    private LocalDateTime claimedUntil;
+
+    /**
+     * Identifies the dispatch that last claimed the entry.
+     */
+    private String claim;
+
+    /**
+     * Number of times the entry was claimed; above 1 it is being delivered again.
+     */
+    private int attempts;
+
+    /**
+     * Why the consumers of the last delivery failed; only set on entries moved to the dead letter collection.
+     */
+    private String error;
+}
@@ -0,0 +1,49 @@
+package com.test.bloggingplatformapi.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A blog serialized to the JSON body of GET /blogs/{id}, written when the blog changes so reads send
+ * these bytes as they are.
+ * A snapshot without json is a marker: the blog reached the version in a way the writer could not serialize
+ * (a bulk update), or was deleted (version DELETED). It only stops an older snapshot from being stored.
+ */
+@Document(collection = "blog_snapshots")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@Builder
+public class BlogSnapshot {
+    public static final long DELETED = Long.MAX_VALUE;
+
+    /**
+     * ID of the blog.
+     */
+    @Id
+    private String id;
+
+    /**
+     * Version of the blog the snapshot was taken from, -1 for blogs written before versioning.
+     */
+    private long version;
+
+    private LocalDateTime updatedAt;
+
+    private byte[] json;
+
+    public static BlogSnapshot marker(String id, long version) {
+        return BlogSnapshot.builder().id(id).version(version).build();
+    }
+
+    public boolean isMarker() {
+        return json == null;
+    }
+}
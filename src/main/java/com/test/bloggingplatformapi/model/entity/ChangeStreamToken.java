@@ -0,0 +1,35 @@
+package com.test.bloggingplatformapi.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Where an API node stopped reading the change stream of the blogs collection, so it resumes there after a restart.
+ */
+@Document(collection = "blog_change_stream_tokens")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@Builder
+public class ChangeStreamToken {
+
+    /**
+     * ID of the node (blog.change-stream.node-id).
+     */
+    @Id
+    private String id;
+
+    /**
+     * The resume token, as extended JSON.
+     */
+    private String token;
+
+    private LocalDateTime savedAt;
+}
@@ -0,0 +1,5 @@
+package com.test.bloggingplatformapi.model.enums;
+
+public enum BlogOperation {
+    CREATED, UPDATED, DELETED
+}
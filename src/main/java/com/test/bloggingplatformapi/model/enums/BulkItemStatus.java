@@ -0,0 +1,5 @@
+package com.test.bloggingplatformapi.model.enums;
+
+public enum BulkItemStatus {
+    CREATED, UPDATED, DELETED, INVALID, NOT_FOUND, CONFLICT, FAILED
+}
@@ -0,0 +1,19 @@
+package com.test.bloggingplatformapi.model.event;
+
+import java.time.Instant;
+
+/**
+ * A write to a blog, made by any API node, as reported by the change stream of the blogs collection.
+ *
+ * @param id - ID of the blog.
+ * @param version - Version of the blog after the write, null when the event does not carry it.
+ * @param removed - Whether the blog is no longer readable: deleted (DELETED status) or removed for good.
+ * @param changedAt - When Mongo applied the write.
+ */
+public record BlogChangedEvent(
+        String id,
+        Long version,
+        boolean removed,
+        Instant changedAt
+) {
+}
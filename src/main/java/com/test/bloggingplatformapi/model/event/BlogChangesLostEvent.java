@@ -0,0 +1,12 @@
+package com.test.bloggingplatformapi.model.event;
+
+/**
+ * Writes to the blogs collection may have been missed, e.g. the change stream could not resume from its token.
+ * Anything derived from blogs on this node must be rebuilt.
+ *
+ * @param reason - Why the changes were lost.
+ */
+public record BlogChangesLostEvent(
+        String reason
+) {
+}
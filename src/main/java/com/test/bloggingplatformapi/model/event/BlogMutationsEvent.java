@@ -0,0 +1,17 @@
+package com.test.bloggingplatformapi.model.event;
+
+import com.test.bloggingplatformapi.model.entity.BlogOutboxEntry;
+
+import java.util.List;
+
+/**
+ * A batch of blog changes taken from the outbox, published once across all API nodes.
+ * Delivery is at least once: a batch whose consumers failed, or whose node stopped, is published again,
+ * so consumers must tolerate seeing an entry twice.
+ *
+ * @param entries - The changes, oldest first.
+ */
+public record BlogMutationsEvent(
+        List<BlogOutboxEntry> entries
+) {
+}
@@ -0,0 +1,19 @@
+package com.test.bloggingplatformapi.model.pagination;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position of the last blog returned by a keyset page.
+ *
+ * @param sortBy - Field the page is sorted by.
+ * @param direction - Sort direction.
+ * @param value - Value of the sort field on the last blog.
+ * @param id - ID of the last blog, used to break ties on the sort field.
+ */
+public record BlogCursor(
+        String sortBy,
+        Sort.Direction direction,
+        Object value,
+        String id
+) {
+}
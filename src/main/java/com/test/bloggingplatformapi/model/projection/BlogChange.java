@@ -0,0 +1,15 @@
+package com.test.bloggingplatformapi.model.projection;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+
+/**
+ * A blog before and after an atomic update.
+ *
+ * @param before - The blog as findAndModify read it.
+ * @param after - The blog as the update left it.
+ */
+public record BlogChange(
+        Blog before,
+        Blog after
+) {
+}
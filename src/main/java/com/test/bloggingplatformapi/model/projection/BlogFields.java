@@ -0,0 +1,51 @@
+package com.test.bloggingplatformapi.model.projection;
+
+import java.util.List;
+
+/**
+ * Fields of a blog to read from Mongo and return to the client (sparse fieldset).
+ *
+ * @param names - Selected fields, in canonical order; id, updatedAt and version are always selected.
+ * @param excerptLength - When positive, content is cut to this many characters by Mongo before it is sent
+ *                        (compressed content is cut once read).
+ */
+public record BlogFields(
+        List<String> names,
+        int excerptLength
+) {
+    public static final List<String> ALLOWED =
+            List.of("id", "title", "content", "category", "tags", "createdAt", "updatedAt", "version");
+
+    public static final List<String> SUMMARY =
+            List.of("id", "title", "category", "tags", "createdAt", "updatedAt", "version");
+
+    public static final BlogFields ALL = new BlogFields(ALLOWED, 0);
+
+    public boolean isAll() {
+        return names.equals(ALLOWED) && excerptLength == 0;
+    }
+
+    public boolean hasExcerpt() {
+        return excerptLength > 0 && names.contains("content");
+    }
+
+    /**
+     * @param name - Field that must be selected, e.g. a sort key.
+     * @return BlogFields - This selection with the field added.
+     */
+    public BlogFields with(String name) {
+        if (names.contains(name)) {
+            return this;
+        }
+        return new BlogFields(
+                ALLOWED.stream().filter(field -> field.equals(name) || names.contains(field)).toList(),
+                excerptLength);
+    }
+
+    /**
+     * @return String - Stable representation of the selection, for cache keys and entity tags.
+     */
+    public String key() {
+        return String.join(",", names) + (hasExcerpt() ? ";excerpt=" + excerptLength : "");
+    }
+}
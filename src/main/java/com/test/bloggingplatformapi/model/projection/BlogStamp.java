@@ -0,0 +1,42 @@
+package com.test.bloggingplatformapi.model.projection;
+
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Identity and last modification time of a blog, enough to answer a conditional GET without fetching content.
+ *
+ * @param id - ID of the blog.
+ * @param updatedAt - When the blog was last modified.
+ */
+public record BlogStamp(
+        String id,
+        LocalDateTime updatedAt
+) {
+    public static BlogStamp of(BlogRes blog) {
+        return new BlogStamp(blog.id(), blog.updatedAt());
+    }
+
+    /**
+     * Weak, because the same blog is sent gzip compressed or not depending on the client,
+     * and Tomcat never compresses a response carrying a strong entity tag.
+     *
+     * @return String - Weak entity tag built from the ID and modification time.
+     */
+    public String eTag() {
+        return "W/\"" + id + "-" + Long.toHexString(lastModified()) + "\"";
+    }
+
+    /**
+     * @return long - Modification time in epoch milliseconds, -1 when unknown.
+     */
+    public long lastModified() {
+        return toEpochMillis(updatedAt);
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
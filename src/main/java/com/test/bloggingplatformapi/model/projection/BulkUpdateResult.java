@@ -0,0 +1,18 @@
+package com.test.bloggingplatformapi.model.projection;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of a bulk update, keyed by the position of each blog in the update.
+ *
+ * @param versions - Version each updated blog was written at.
+ * @param missed - Blogs left as they were: written since they were read, or no longer ACTIVE.
+ * @param failures - Error of each failed update.
+ */
+public record BulkUpdateResult(
+        Map<Integer, Long> versions,
+        Set<Integer> missed,
+        Map<Integer, String> failures
+) {
+}
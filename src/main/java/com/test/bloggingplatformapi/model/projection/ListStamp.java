@@ -0,0 +1,26 @@
+package com.test.bloggingplatformapi.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validator of the full blog list: it changes whenever a blog is added, updated or deleted.
+ *
+ * @param count - Number of active blogs.
+ * @param lastUpdatedAt - Most recent modification time among active blogs, null when there are none.
+ */
+public record ListStamp(
+        long count,
+        LocalDateTime lastUpdatedAt
+) {
+    /**
+     * @param variant - Representation the tag applies to (e.g. json or ndjson).
+     * @return String - Weak entity tag of the list in that representation.
+     */
+    public String eTag(String variant) {
+        return "W/\"" + variant + "-" + count + "-" + Long.toHexString(lastModified()) + "\"";
+    }
+
+    public long lastModified() {
+        return BlogStamp.toEpochMillis(lastUpdatedAt);
+    }
+}
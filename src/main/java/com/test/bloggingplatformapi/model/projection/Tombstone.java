@@ -0,0 +1,13 @@
+package com.test.bloggingplatformapi.model.projection;
+
+/**
+ * A DELETED blog waiting to be purged.
+ *
+ * @param id - ID of the blog.
+ * @param bsonSize - Size of the stored document in bytes, as reported by $bsonSize.
+ */
+public record Tombstone(
+        String id,
+        int bsonSize
+) {
+}
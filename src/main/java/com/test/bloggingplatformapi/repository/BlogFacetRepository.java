@@ -0,0 +1,7 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.BlogFacetCounts;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface BlogFacetRepository extends MongoRepository<BlogFacetCounts, String>, BlogFacetRepositoryCustom {
+}
@@ -0,0 +1,55 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.BlogFacetCounts;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface BlogFacetRepositoryCustom {
+
+    /**
+     * Adds the given deltas to the counts document with $inc, in one atomic findAndModify, if it is still at the
+     * given epoch. Concurrent increments from several nodes all apply.
+     *
+     * @param id - ID of the counts document.
+     * @param epoch - Epoch the deltas were counted against.
+     * @param categories - Change of each category count; missing categories are left unchanged.
+     * @param tags - Change of each tag count; missing tags are left unchanged.
+     * @return BlogFacetCounts - The counts after the increment, null if the document is missing or at another epoch.
+     */
+    BlogFacetCounts increment(String id, long epoch, Map<Category, Long> categories, Map<Tag, Long> tags);
+
+    /**
+     * Takes the right to recount the counts for the given lease, if no other node holds it, creating the document
+     * if needed.
+     *
+     * @param id - ID of the counts document.
+     * @param owner - Node taking it.
+     * @param lease - How long it is held unless released.
+     * @param reconciledBefore - Only take it if the counts were not recounted since, null for no such condition.
+     * @return boolean - Whether it was taken.
+     */
+    boolean lockRecount(String id, String owner, Duration lease, LocalDateTime reconciledBefore);
+
+    /**
+     * Replaces the counts with recounted ones, starts a new epoch and releases the right to recount, if the owner
+     * still holds it.
+     *
+     * @param id - ID of the counts document.
+     * @param owner - Node that recounted.
+     * @param counts - The recounted categories and tags, with reconciledAt and countedUntil.
+     * @return BlogFacetCounts - The counts document after the replace, null if the owner lost its lease.
+     */
+    BlogFacetCounts saveRecount(String id, String owner, BlogFacetCounts counts);
+
+    /**
+     * Releases the right to recount, if the owner still holds it.
+     *
+     * @param id - ID of the counts document.
+     * @param owner - Node releasing it.
+     */
+    void unlockRecount(String id, String owner);
+}
@@ -0,0 +1,87 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.BlogFacetCounts;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class BlogFacetRepositoryCustomImpl implements BlogFacetRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public BlogFacetCounts increment(String id, long epoch, Map<Category, Long> categories, Map<Tag, Long> tags) {
+        final Update update = new Update();
+        categories.forEach((category, delta) -> update.inc("categories." + category.name(), delta));
+        tags.forEach((tag, delta) -> update.inc("tags." + tag.name(), delta));
+
+        // Documents written before epochs have none
+        final Criteria atEpoch = epoch == 0 ?
+                Criteria.where("epoch").in(0L, null) :
+                Criteria.where("epoch").is(epoch);
+        return mongoTemplate.findAndModify(new Query(Criteria.where("_id").is(id)).addCriteria(atEpoch), update,
+                FindAndModifyOptions.options().returnNew(true), BlogFacetCounts.class);
+    }
+
+    /**
+     * An upsert matched on a free (or own) lease; when another node holds it, the insert fails on the existing _id.
+     */
+    @Override
+    public boolean lockRecount(String id, String owner, Duration lease, LocalDateTime reconciledBefore) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Criteria> conditions = new ArrayList<>();
+        conditions.add(new Criteria().orOperator(
+                Criteria.where("reconcilingUntil").is(null),
+                Criteria.where("reconcilingUntil").lt(now),
+                Criteria.where("reconcilingBy").is(owner)));
+        if (reconciledBefore != null) {
+            conditions.add(new Criteria().orOperator(
+                    Criteria.where("reconciledAt").is(null),
+                    Criteria.where("reconciledAt").lt(reconciledBefore)));
+        }
+        final Query free = new Query(Criteria.where("_id").is(id))
+                .addCriteria(new Criteria().andOperator(conditions));
+        try {
+            mongoTemplate.upsert(free, Update.update("reconcilingBy", owner).set("reconcilingUntil", now.plus(lease)),
+                    BlogFacetCounts.class);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public BlogFacetCounts saveRecount(String id, String owner, BlogFacetCounts counts) {
+        return mongoTemplate.findAndModify(locked(id, owner),
+                Update.update("categories", counts.getCategories())
+                        .set("tags", counts.getTags())
+                        .set("reconciledAt", counts.getReconciledAt())
+                        .set("countedUntil", counts.getCountedUntil())
+                        .inc("epoch", 1)
+                        .unset("reconcilingBy")
+                        .unset("reconcilingUntil"),
+                FindAndModifyOptions.options().returnNew(true), BlogFacetCounts.class);
+    }
+
+    @Override
+    public void unlockRecount(String id, String owner) {
+        mongoTemplate.updateFirst(locked(id, owner),
+                new Update().unset("reconcilingBy").unset("reconcilingUntil"), BlogFacetCounts.class);
+    }
+
+    private static Query locked(String id, String owner) {
+        return new Query(Criteria.where("_id").is(id).and("reconcilingBy").is(owner));
+    }
+}
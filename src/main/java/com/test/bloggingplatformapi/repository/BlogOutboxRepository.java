@@ -0,0 +1,7 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.BlogOutboxEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface BlogOutboxRepository extends MongoRepository<BlogOutboxEntry, String>, BlogOutboxRepositoryCustom {
+}
@@ -0,0 +1,21 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.BlogOutboxEntry;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface BlogOutboxRepositoryCustom {
+    List<BlogOutboxEntry> claim(int limit, Duration lease);
+
+    void ensureIndexes();
+
+    /**
+     * Moves an entry out of the outbox into the given collection, so it is no longer delivered.
+     * Saved there by _id before it is removed, so an entry moved twice is kept once.
+     *
+     * @param entry - The entry, with the error of its last delivery.
+     * @param collection - Dead letter collection.
+     */
+    void deadLetter(BlogOutboxEntry entry, String collection);
+}
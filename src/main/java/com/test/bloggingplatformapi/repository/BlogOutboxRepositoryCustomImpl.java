@@ -0,0 +1,74 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.BlogOutboxEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class BlogOutboxRepositoryCustomImpl implements BlogOutboxRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Claim the oldest entries that are not claimed, or whose claim expired, for the given lease.
+     * The entries are picked with one read on the claimedUntil + _id index, then claimed by one update that
+     * re-checks claimedUntil, so when several nodes pick the same entries each one is claimed by only one of them.
+     *
+     * @param limit - Most entries to claim.
+     * @param lease - How long the entries are reserved before they can be claimed again.
+     * @return List<BlogOutboxEntry> - The claimed entries, oldest first; fewer than picked if others claimed some.
+     */
+    @Override
+    public List<BlogOutboxEntry> claim(int limit, Duration lease) {
+        final LocalDateTime now = LocalDateTime.now();
+        final Query available = Query.query(Criteria.where("claimedUntil").lte(now))
+                .with(Sort.by("claimedUntil", "_id"))
+                .limit(limit);
+        available.fields().include("_id");
+        final List<String> ids = mongoTemplate.find(available, BlogOutboxEntry.class)
+                .stream()
+                .map(BlogOutboxEntry::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final String claim = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(ids).and("claimedUntil").lte(now)),
+                Update.update("claim", claim).set("claimedUntil", now.plus(lease)).inc("attempts", 1),
+                BlogOutboxEntry.class);
+        return mongoTemplate.find(
+                Query.query(Criteria.where("_id").in(ids).and("claim").is(claim)).with(Sort.by("_id")),
+                BlogOutboxEntry.class);
+    }
+
+    /**
+     * Creates the collection and the indexes declared on BlogOutboxEntry; a collection cannot be created
+     * inside a transaction before MongoDB 4.4.
+     */
+    @Override
+    public void ensureIndexes() {
+        if (!mongoTemplate.collectionExists(BlogOutboxEntry.class)) {
+            mongoTemplate.createCollection(BlogOutboxEntry.class);
+        }
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(BlogOutboxEntry.class)
+                .forEach(mongoTemplate.indexOps(BlogOutboxEntry.class)::ensureIndex);
+    }
+
+    @Override
+    public void deadLetter(BlogOutboxEntry entry, String collection) {
+        mongoTemplate.save(entry, collection);
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(entry.getId())), BlogOutboxEntry.class);
+    }
+}
@@ -0,0 +1,357 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.enums.ObjStatus;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.pagination.BlogCursor;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Query shapes issued against the blogs collection.
+ * Kept in one place so the index manager can explain exactly what the repository runs.
+ */
+public final class BlogQueries {
+
+    private BlogQueries() {
+    }
+
+    public static Criteria active() {
+        return Criteria.where("objStatus").is(ObjStatus.ACTIVE);
+    }
+
+    /**
+     * Same shape as BlogRepository.findBlogActiveById.
+     */
+    public static Query activeById(String id) {
+        return new Query(Criteria.where("_id").is(id)).addCriteria(active());
+    }
+
+    /**
+     * Same shape as BlogRepository.findAllActive and the streaming cursor.
+     */
+    public static Query allActive() {
+        return new Query(active());
+    }
+
+    /**
+     * activeById, narrowed to the version the client read when it sent one.
+     */
+    public static Query activeById(String id, Long version) {
+        final Query query = activeById(id);
+        return version == null ? query : query.addCriteria(Criteria.where("version").is(version));
+    }
+
+    /**
+     * An ACTIVE blog still at the version it was read at; null matches a blog written before versioning.
+     */
+    public static Query activeAtVersion(String id, Long version) {
+        return activeById(id).addCriteria(Criteria.where("version").is(version));
+    }
+
+    /**
+     * ACTIVE blogs among the given IDs; used by bulk updates and deletes.
+     */
+    public static Query activeByIds(Collection<String> ids) {
+        return new Query(Criteria.where("_id").in(ids)).addCriteria(active());
+    }
+
+    /**
+     * The blogs with the given IDs, whatever their status, reading only what a write leaves on them: version and
+     * updatedAt. Used after a bulk write matched on activeAtVersion to tell the blogs it wrote from those it missed.
+     */
+    public static Query writtenByIds(Collection<String> ids) {
+        final Query query = new Query(Criteria.where("_id").in(ids));
+        query.fields().include("_id", "version", "updatedAt");
+        return query;
+    }
+
+    /**
+     * Overwrites the editable fields with those of the given blog.
+     */
+    public static Update replaceContent(Blog blog) {
+        return replaceContent(blog, now());
+    }
+
+    /**
+     * replaceContent, stamped with the given time so the caller can derive the result with replaced.
+     */
+    public static Update replaceContent(Blog blog, LocalDateTime at) {
+        return touch(Update.update("title", blog.getTitle())
+                .set("content", blog.getContent())
+                .set("category", blog.getCategory())
+                .set("tags", blog.getTags()), at);
+    }
+
+    /**
+     * Sets only the non-null editable fields of the given blog.
+     */
+    public static Update patch(Blog changes) {
+        return patch(changes, now());
+    }
+
+    /**
+     * patch, stamped with the given time so the caller can derive the result with patched.
+     */
+    public static Update patch(Blog changes, LocalDateTime at) {
+        final Update update = new Update();
+        if (changes.getTitle() != null) {
+            update.set("title", changes.getTitle());
+        }
+        if (changes.getContent() != null) {
+            update.set("content", changes.getContent());
+        }
+        if (changes.getCategory() != null) {
+            update.set("category", changes.getCategory());
+        }
+        if (changes.getTags() != null) {
+            update.set("tags", changes.getTags());
+        }
+        return touch(update, at);
+    }
+
+    public static Update addTags(Collection<Tag> tags) {
+        return addTags(tags, now());
+    }
+
+    public static Update addTags(Collection<Tag> tags, LocalDateTime at) {
+        return touch(new Update().addToSet("tags").each(tags.toArray()), at);
+    }
+
+    public static Update markDeleted() {
+        return markDeleted(now());
+    }
+
+    /**
+     * markDeleted, stamped with the given time so the caller can tell its write apart with writtenByIds.
+     */
+    public static Update markDeleted(LocalDateTime at) {
+        return touch(Update.update("objStatus", ObjStatus.DELETED)
+                .set("deletedAt", at), at);
+    }
+
+    /**
+     * The blog as replaceContent(blog, at) leaves it, derived from the document findAndModify read before the update.
+     */
+    public static Blog replaced(Blog before, Blog blog, LocalDateTime at) {
+        final Blog after = touched(before, at);
+        after.setTitle(blog.getTitle());
+        after.setContent(blog.getContent());
+        after.setCategory(blog.getCategory());
+        after.setTags(blog.getTags());
+        return after;
+    }
+
+    /**
+     * The blog as patch(changes, at) leaves it, derived from the document findAndModify read before the update.
+     */
+    public static Blog patched(Blog before, Blog changes, LocalDateTime at) {
+        final Blog after = touched(before, at);
+        if (changes.getTitle() != null) {
+            after.setTitle(changes.getTitle());
+        }
+        if (changes.getContent() != null) {
+            after.setContent(changes.getContent());
+        }
+        if (changes.getCategory() != null) {
+            after.setCategory(changes.getCategory());
+        }
+        if (changes.getTags() != null) {
+            after.setTags(changes.getTags());
+        }
+        return after;
+    }
+
+    /**
+     * The blog as addTags(tags, at) leaves it, derived from the document findAndModify read before the update.
+     */
+    public static Blog tagsAdded(Blog before, Collection<Tag> tags, LocalDateTime at) {
+        final Blog after = touched(before, at);
+        final Set<Tag> merged = before.getTags() == null ? new LinkedHashSet<>() : new LinkedHashSet<>(before.getTags());
+        merged.addAll(tags);
+        after.setTags(merged);
+        return after;
+    }
+
+    /**
+     * Current time at the millisecond precision Mongo stores, so a derived blog matches the stored one.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Stamps updatedAt and bumps the version, which @LastModifiedDate and @Version only do on save.
+     */
+    private static Update touch(Update update, LocalDateTime at) {
+        return update.set("updatedAt", at)
+                .inc("version", 1);
+    }
+
+    private static Blog touched(Blog before, LocalDateTime at) {
+        return Blog.builder()
+                .id(before.getId())
+                .title(before.getTitle())
+                .content(before.getContent())
+                .category(before.getCategory())
+                .tags(before.getTags())
+                .createdAt(before.getCreatedAt())
+                .updatedAt(at)
+                .objStatus(before.getObjStatus())
+                .version(before.getVersion() == null ? 1L : before.getVersion() + 1)
+                .deletedAt(before.getDeletedAt())
+                .build();
+    }
+
+    /**
+     * DELETED blogs deleted before the cutoff, served by the status + deletedAt index. Tombstones without
+     * deletedAt (written before it existed) are matched on updatedAt instead.
+     * Only the _id and the stored size of each document are read.
+     */
+    public static Query tombstonesBefore(LocalDateTime cutoff, int limit) {
+        final Query query = new Query(Criteria.where("objStatus").is(ObjStatus.DELETED)
+                .orOperator(
+                        Criteria.where("deletedAt").lt(cutoff),
+                        Criteria.where("deletedAt").is(null).and("updatedAt").lt(cutoff)))
+                .limit(limit);
+        query.fields()
+                .include("_id")
+                .project(MongoExpression.create("{ $bsonSize: '$$ROOT' }"))
+                .as("bsonSize");
+        return query;
+    }
+
+    /**
+     * DELETED blogs among the given IDs, so a blog that is no longer a tombstone is never removed.
+     */
+    public static Criteria tombstonesIn(Collection<String> ids) {
+        return Criteria.where("_id").in(ids)
+                .and("objStatus").is(ObjStatus.DELETED);
+    }
+
+    /**
+     * Number of ACTIVE blogs per category and per tag, counted in one pass with $facet.
+     * Scans every ACTIVE blog, so it only runs when the facet counts are reconciled.
+     */
+    public static TypedAggregation<Blog> activeFacets() {
+        return Aggregation.newAggregation(Blog.class,
+                Aggregation.match(active()),
+                Aggregation.facet(Aggregation.group("category").count().as("count"))
+                        .as("categories")
+                        .and(Aggregation.unwind("tags"), Aggregation.group("tags").count().as("count"))
+                        .as("tags"));
+    }
+
+    public static Query textSearch(String text) {
+        return TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                .addCriteria(active());
+    }
+
+    public static Query textSearch(String text, Pageable pageable, boolean rankByRelevance) {
+        if (rankByRelevance) {
+            return TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                    .sortByScore()
+                    .addCriteria(active())
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize());
+        }
+        return textSearch(text).with(pageable);
+    }
+
+    public static Query pageAfter(String text, String sortBy, Sort.Direction direction,
+                                  BlogCursor after, int limit) {
+        final Query query = new Query(active());
+
+        if (text != null) {
+            query.addCriteria(TextCriteria.forDefaultLanguage().matching(text));
+        }
+        if (after != null) {
+            query.addCriteria(after(after));
+        }
+
+        return query.with(Sort.by(direction, sortBy, "_id")).limit(limit);
+    }
+
+    /**
+     * Restricts the query to the selected fields, cutting content to an excerpt on the server when asked.
+     *
+     * @param query - Query to restrict.
+     * @param fields - Fields to read.
+     * @return Query - The same query.
+     */
+    public static Query project(Query query, BlogFields fields) {
+        if (fields.isAll()) {
+            return query;
+        }
+
+        final Field projection = query.fields();
+        fields.names()
+                .stream()
+                .filter(name -> !name.equals("id"))
+                .filter(name -> !(name.equals("content") && fields.hasExcerpt()))
+                .forEach(projection::include);
+
+        if (fields.hasExcerpt()) {
+            projection.project(MongoExpression.create(
+                    "{ $cond: [ { $eq: [ { $type: '$content' }, 'binData' ] }, '$content', " +
+                    "{ $substrCP: [ { $ifNull: [ '$content', '' ] }, 0, " + fields.excerptLength() + " ] } ] }"))
+                    .as("content");
+        }
+        return query;
+    }
+
+    /**
+     * Cuts the content of a blog read with project() to the excerpt.
+     * Mongo cannot cut compressed content, so that is read in full and cut here once decompressed.
+     *
+     * @param blog - Blog read with the given fields.
+     * @param fields - Fields it was read with.
+     * @return Blog - The same blog.
+     */
+    public static Blog excerpt(Blog blog, BlogFields fields) {
+        final String content = blog.getContent();
+        if (fields.hasExcerpt() && content != null && content.length() > fields.excerptLength()
+                && content.codePointCount(0, content.length()) > fields.excerptLength()) {
+            blog.setContent(content.substring(0, content.offsetByCodePoints(0, fields.excerptLength())));
+        }
+        return blog;
+    }
+
+    /**
+     * (sortKey beyond value) OR (sortKey == value AND _id beyond id), so ties on the sort key keep a stable order.
+     * Mongo sorts a missing or null sort key before any value, but $gt and $lt never match across types,
+     * so the blogs without one are matched explicitly: after every value when descending, before them when ascending.
+     */
+    private static Criteria after(BlogCursor cursor) {
+        final boolean asc = cursor.direction().isAscending();
+        final Criteria sameValue = new Criteria().andOperator(
+                Criteria.where(cursor.sortBy()).is(cursor.value()),
+                asc ? Criteria.where("_id").gt(cursor.id()) : Criteria.where("_id").lt(cursor.id()));
+
+        if (cursor.value() == null) {
+            return asc ?
+                    new Criteria().orOperator(Criteria.where(cursor.sortBy()).ne(null), sameValue) :
+                    sameValue;
+        }
+        return asc ?
+                new Criteria().orOperator(Criteria.where(cursor.sortBy()).gt(cursor.value()), sameValue) :
+                new Criteria().orOperator(Criteria.where(cursor.sortBy()).lt(cursor.value()), sameValue,
+                        Criteria.where(cursor.sortBy()).is(null));
+    }
+}
@@ -2,19 +2,27 @@ package com.test.bloggingplatformapi.repository;
 
 
 import com.test.bloggingplatformapi.model.entity.Blog;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.test.bloggingplatformapi.model.enums.ObjStatus;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface BlogRepository extends MongoRepository<Blog, String> {
+public interface BlogRepository extends MongoRepository<Blog, String>, BlogRepositoryCustom {
 
     @Query("{ '_id': ?0, 'objStatus':  'ACTIVE'}")
     Optional<Blog> findBlogActiveById(String id);
 
-    @Query("{ 'title': { $regex: ?0, $options: 'i' } }")
-    Page<Blog> findByTitleContaining(String title, Pageable pageable);
+    @Query("{ 'objStatus': 'ACTIVE' }")
+    List<Blog> findAllActive();
+
+    @Query(value = "{ '_id': ?0, 'objStatus': 'ACTIVE' }", fields = "{ 'updatedAt': 1 }")
+    Optional<BlogStamp> findStampById(String id);
+
+    Optional<BlogStamp> findFirstByObjStatusOrderByUpdatedAtDesc(ObjStatus objStatus);
+
+    long countByObjStatus(ObjStatus objStatus);
 
 }
\ No newline at end of file
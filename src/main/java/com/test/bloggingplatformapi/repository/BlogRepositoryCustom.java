@@ -0,0 +1,176 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogFacetCounts;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.pagination.BlogCursor;
+import com.test.bloggingplatformapi.model.projection.BlogChange;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.model.projection.BulkUpdateResult;
+import com.test.bloggingplatformapi.model.projection.Tombstone;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for queries that need MongoTemplate directly.
+ */
+public interface BlogRepositoryCustom {
+
+    /**
+     * Opens a cursor over all ACTIVE blogs. The caller must close the stream.
+     *
+     * @param batchSize - Number of documents fetched per round trip.
+     * @param fields - Fields to read.
+     * @return Stream<Blog> - Lazily fetched blogs backed by the cursor.
+     */
+    Stream<Blog> streamAllActive(int batchSize, BlogFields fields);
+
+    /**
+     * Full-text search over the title and content of ACTIVE blogs, backed by the text index of the blogs collection.
+     *
+     * @param text - Words to search for; quoted phrases and -negated words follow Mongo $text syntax.
+     * @param pageable - Page to fetch and its sort; the sort is ignored when ranking by relevance.
+     * @param rankByRelevance - Sort by text score instead of the pageable sort.
+     * @param fields - Fields to read.
+     * @return Page<Blog> - The matching blogs.
+     */
+    Page<Blog> searchByText(String text, Pageable pageable, boolean rankByRelevance, BlogFields fields);
+
+    /**
+     * Fetches one keyset page: the ACTIVE blogs that sort after the cursor, ordered by the sort field and then by ID.
+     * No count query is issued.
+     *
+     * @param title - Optional full-text filter, null to list all blogs.
+     * @param sortBy - Field to sort by.
+     * @param direction - Sort direction.
+     * @param after - Position of the last blog of the previous page, null for the first page.
+     * @param limit - Maximum number of blogs to return.
+     * @param fields - Fields to read; must include the sort field.
+     * @return List<Blog> - The blogs of the page.
+     */
+    List<Blog> findPageAfter(String title, String sortBy, Sort.Direction direction, BlogCursor after, int limit,
+                             BlogFields fields);
+
+    /**
+     * Overwrites title, content, category and tags of an ACTIVE blog in one atomic findAndModify; null fields are
+     * written as null. The blog is read as it was before the update; the updated blog is derived from it.
+     *
+     * @param id - ID of the blog.
+     * @param version - Version the caller read, null to skip the check.
+     * @param blog - The new content of the blog.
+     * @return Optional<BlogChange> - The blog before and after the update, empty if no ACTIVE blog has this ID
+     * and version.
+     */
+    Optional<BlogChange> replaceActive(String id, Long version, Blog blog);
+
+    /**
+     * Sets the non-null editable fields of an ACTIVE blog in one atomic findAndModify.
+     * The blog is read as it was before the update; the updated blog is derived from it and the changes.
+     *
+     * @param id - ID of the blog.
+     * @param version - Version the caller read, null to skip the check.
+     * @param changes - Fields to set; null fields are left unchanged.
+     * @return Optional<BlogChange> - The blog before and after the update, empty if no ACTIVE blog has this ID
+     * and version.
+     */
+    Optional<BlogChange> patchActive(String id, Long version, Blog changes);
+
+    /**
+     * Adds tags to an ACTIVE blog with $addToSet in one atomic findAndModify.
+     *
+     * @param id - ID of the blog.
+     * @param tags - Tags to add; tags the blog already has are kept once.
+     * @return Optional<BlogChange> - The blog before and after the update, empty if no ACTIVE blog has this ID.
+     */
+    Optional<BlogChange> addTagsActive(String id, Set<Tag> tags);
+
+    /**
+     * Marks an ACTIVE blog as DELETED in one atomic findAndModify.
+     *
+     * @param id - ID of the blog.
+     * @param version - Version the caller read, null to skip the check.
+     * @return Optional<Blog> - The ID, category and tags of the deleted blog, empty if no ACTIVE blog has this ID
+     * and version.
+     */
+    Optional<Blog> markDeleted(String id, Long version);
+
+    /**
+     * Inserts the blogs with one unordered bulk write; a failed insert does not stop the others.
+     *
+     * @param blogs - Blogs to insert, with their IDs already assigned.
+     * @return Map<Integer, String> - Error of each failed insert, keyed by its position in blogs.
+     */
+    Map<Integer, String> insertAll(List<Blog> blogs);
+
+    /**
+     * Overwrites title, content, category and tags of ACTIVE blogs with one unordered bulk write.
+     * Each blog is only overwritten if it is still at the version it was read at, so the version it is written at
+     * is known without reading it back.
+     *
+     * @param blogs - Blogs carrying their ID, the version they were read at and their new content.
+     * @return BulkUpdateResult - The version of each updated blog, the blogs left as they were and the errors,
+     * keyed by position in blogs.
+     */
+    BulkUpdateResult updateAllActive(List<Blog> blogs);
+
+    /**
+     * Marks ACTIVE blogs as DELETED with one unordered bulk write.
+     * Each blog is only deleted if it is still at the version it was read at, so a blog deleted by another request
+     * meanwhile is reported as left as it was, rather than deleted twice.
+     *
+     * @param blogs - Blogs carrying their ID and the version they were read at.
+     * @return BulkUpdateResult - The version of each deleted blog, the blogs left as they were and the errors,
+     * keyed by position in blogs.
+     */
+    BulkUpdateResult markAllDeleted(List<Blog> blogs);
+
+    /**
+     * Reads the ID and stored size of DELETED blogs deleted before the cutoff.
+     *
+     * @param cutoff - Only tombstones deleted before this time are returned.
+     * @param limit - Maximum number of tombstones to return.
+     * @return List<Tombstone> - The tombstones.
+     */
+    List<Tombstone> findTombstones(LocalDateTime cutoff, int limit);
+
+    /**
+     * Copies the given tombstones into another collection with a server-side $merge; documents already
+     * copied by an earlier, interrupted run are kept as they are.
+     *
+     * @param ids - IDs of the tombstones to copy.
+     * @param collection - Name of the archive collection.
+     */
+    void archiveTombstones(Collection<String> ids, String collection);
+
+    /**
+     * Removes the given blogs for good, skipping any that are not DELETED.
+     *
+     * @param ids - IDs of the tombstones to remove.
+     * @return long - Number of documents removed.
+     */
+    long removeTombstones(Collection<String> ids);
+
+    /**
+     * Reads only the _id, category, tags and version of the ACTIVE blogs among the given IDs.
+     *
+     * @param ids - IDs to check.
+     * @return Map<String, Blog> - The ACTIVE blogs, keyed by ID.
+     */
+    Map<String, Blog> findActiveByIds(Collection<String> ids);
+
+    /**
+     * Counts the ACTIVE blogs per category and per tag over the whole collection.
+     *
+     * @return BlogFacetCounts - The counts, without ID.
+     */
+    BlogFacetCounts countActiveFacets();
+}
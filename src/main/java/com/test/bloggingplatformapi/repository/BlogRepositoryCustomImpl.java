@@ -0,0 +1,265 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogFacetCounts;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.pagination.BlogCursor;
+import com.test.bloggingplatformapi.model.projection.BlogChange;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.model.projection.BulkUpdateResult;
+import com.test.bloggingplatformapi.model.projection.Tombstone;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class BlogRepositoryCustomImpl implements BlogRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Stream<Blog> streamAllActive(int batchSize, BlogFields fields) {
+        final Query query = BlogQueries.project(BlogQueries.allActive(), fields).cursorBatchSize(batchSize);
+
+        return mongoTemplate.stream(query, Blog.class).map(blog -> BlogQueries.excerpt(blog, fields));
+    }
+
+    @Override
+    public Page<Blog> searchByText(String text, Pageable pageable, boolean rankByRelevance, BlogFields fields) {
+        final Query query = BlogQueries.project(BlogQueries.textSearch(text, pageable, rankByRelevance), fields);
+
+        final List<Blog> blogs = mongoTemplate.find(query, Blog.class);
+        blogs.forEach(blog -> BlogQueries.excerpt(blog, fields));
+
+        return PageableExecutionUtils.getPage(blogs, pageable,
+                () -> mongoTemplate.count(BlogQueries.textSearch(text), Blog.class));
+    }
+
+    @Override
+    public List<Blog> findPageAfter(String title, String sortBy, Sort.Direction direction,
+                                    BlogCursor after, int limit, BlogFields fields) {
+        final Query query = BlogQueries.project(BlogQueries.pageAfter(title, sortBy, direction, after, limit), fields);
+
+        final List<Blog> blogs = mongoTemplate.find(query, Blog.class);
+        blogs.forEach(blog -> BlogQueries.excerpt(blog, fields));
+        return blogs;
+    }
+
+    @Override
+    public Optional<BlogChange> replaceActive(String id, Long version, Blog blog) {
+        final LocalDateTime at = BlogQueries.now();
+        return Optional.ofNullable(mongoTemplate.findAndModify(BlogQueries.activeById(id, version),
+                        BlogQueries.replaceContent(blog, at), Blog.class))
+                .map(before -> new BlogChange(before, BlogQueries.replaced(before, blog, at)));
+    }
+
+    @Override
+    public Optional<BlogChange> patchActive(String id, Long version, Blog changes) {
+        final LocalDateTime at = BlogQueries.now();
+        return Optional.ofNullable(mongoTemplate.findAndModify(BlogQueries.activeById(id, version),
+                        BlogQueries.patch(changes, at), Blog.class))
+                .map(before -> new BlogChange(before, BlogQueries.patched(before, changes, at)));
+    }
+
+    @Override
+    public Optional<BlogChange> addTagsActive(String id, Set<Tag> tags) {
+        final LocalDateTime at = BlogQueries.now();
+        return Optional.ofNullable(mongoTemplate.findAndModify(BlogQueries.activeById(id),
+                        BlogQueries.addTags(tags, at), Blog.class))
+                .map(before -> new BlogChange(before, BlogQueries.tagsAdded(before, tags, at)));
+    }
+
+    @Override
+    public Optional<Blog> markDeleted(String id, Long version) {
+        final Query query = BlogQueries.activeById(id, version);
+        query.fields().include("_id", "category", "tags", "version");
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, BlogQueries.markDeleted(), Blog.class));
+    }
+
+    @Override
+    public Map<Integer, String> insertAll(List<Blog> blogs) {
+        if (blogs.isEmpty()) {
+            return Map.of();
+        }
+        final BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Blog.class);
+        bulk.insert(blogs);
+
+        return execute(bulk);
+    }
+
+    @Override
+    public BulkUpdateResult updateAllActive(List<Blog> blogs) {
+        if (blogs.isEmpty()) {
+            return new BulkUpdateResult(Map.of(), Set.of(), Map.of());
+        }
+        final LocalDateTime at = BlogQueries.now();
+        final BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Blog.class);
+        blogs.forEach(blog -> bulk.updateOne(BlogQueries.activeAtVersion(blog.getId(), blog.getVersion()),
+                BlogQueries.replaceContent(blog, at)));
+
+        return executeAtVersion(bulk, blogs, at);
+    }
+
+    @Override
+    public BulkUpdateResult markAllDeleted(List<Blog> blogs) {
+        if (blogs.isEmpty()) {
+            return new BulkUpdateResult(Map.of(), Set.of(), Map.of());
+        }
+        final LocalDateTime at = BlogQueries.now();
+        final BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Blog.class);
+        blogs.forEach(blog -> bulk.updateOne(BlogQueries.activeAtVersion(blog.getId(), blog.getVersion()),
+                BlogQueries.markDeleted(at)));
+
+        return executeAtVersion(bulk, blogs, at);
+    }
+
+    @Override
+    public Map<String, Blog> findActiveByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        final Query query = BlogQueries.activeByIds(ids);
+        query.fields().include("_id", "category", "tags", "version");
+
+        return mongoTemplate.find(query, Blog.class)
+                .stream()
+                .collect(Collectors.toMap(Blog::getId, Function.identity()));
+    }
+
+    /**
+     * Runs updates matched on activeAtVersion and stamped with at, and sorts out which blogs they wrote.
+     * A bulk write only reports how many updates matched, so when some did not, the blogs are read back: a blog is
+     * written by this update if it is now at the next version and was stamped at that time. A blog written again
+     * by another request between the two is reported as missed.
+     */
+    private BulkUpdateResult executeAtVersion(BulkOperations bulk, List<Blog> blogs, LocalDateTime at) {
+        BulkWriteResult result;
+        List<BulkWriteError> errors;
+        try {
+            result = bulk.execute();
+            errors = List.of();
+        } catch (BulkOperationException ex) {
+            result = ex.getResult();
+            errors = ex.getErrors();
+        }
+        final Map<Integer, String> failures = new HashMap<>();
+        errors.forEach(error -> failures.put(error.getIndex(), error.getMessage()));
+
+        final Map<String, Blog> current = result.getMatchedCount() == blogs.size() - failures.size() ?
+                null :
+                mongoTemplate.find(BlogQueries.writtenByIds(blogs.stream().map(Blog::getId).toList()), Blog.class)
+                        .stream()
+                        .collect(Collectors.toMap(Blog::getId, Function.identity()));
+
+        final Map<Integer, Long> versions = new HashMap<>();
+        final Set<Integer> missed = new HashSet<>();
+        for (int i = 0; i < blogs.size(); i++) {
+            if (failures.containsKey(i)) {
+                continue;
+            }
+            final Long version = blogs.get(i).getVersion();
+            final long next = version == null ? 1L : version + 1;
+            final Blog now = current == null ? null : current.get(blogs.get(i).getId());
+            if (current == null || now != null && Objects.equals(now.getVersion(), next) && at.equals(now.getUpdatedAt())) {
+                versions.put(i, next);
+            } else {
+                missed.add(i);
+            }
+        }
+        return new BulkUpdateResult(versions, missed, failures);
+    }
+
+    @Override
+    public BlogFacetCounts countActiveFacets() {
+        final Document facets = mongoTemplate.aggregate(BlogQueries.activeFacets(), Document.class)
+                .getUniqueMappedResult();
+
+        final Map<Category, Long> categories = new EnumMap<>(Category.class);
+        final Map<Tag, Long> tags = new EnumMap<>(Tag.class);
+        if (facets != null) {
+            facets.getList("categories", Document.class).stream()
+                    .filter(group -> group.get("_id") != null)
+                    .forEach(group -> categories.put(Category.valueOf(group.getString("_id")),
+                            group.get("count", Number.class).longValue()));
+            facets.getList("tags", Document.class).stream()
+                    .filter(group -> group.get("_id") != null)
+                    .forEach(group -> tags.put(Tag.valueOf(group.getString("_id")),
+                            group.get("count", Number.class).longValue()));
+        }
+        return BlogFacetCounts.builder()
+                .categories(categories)
+                .tags(tags)
+                .build();
+    }
+
+    @Override
+    public List<Tombstone> findTombstones(LocalDateTime cutoff, int limit) {
+        return mongoTemplate.query(Blog.class)
+                .as(Tombstone.class)
+                .matching(BlogQueries.tombstonesBefore(cutoff, limit))
+                .all();
+    }
+
+    @Override
+    public void archiveTombstones(Collection<String> ids, String collection) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final Aggregation archive = Aggregation.newAggregation(
+                Aggregation.match(BlogQueries.tombstonesIn(ids)),
+                MergeOperation.builder()
+                        .intoCollection(collection)
+                        .whenMatched(MergeOperation.WhenDocumentsMatch.keepExistingDocument())
+                        .whenDocumentsDontMatch(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                        .build());
+        mongoTemplate.aggregate(archive, Blog.class, Document.class);
+    }
+
+    @Override
+    public long removeTombstones(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(new Query(BlogQueries.tombstonesIn(ids)), Blog.class).getDeletedCount();
+    }
+
+    /**
+     * Runs an unordered bulk write and maps the write errors back to the position of their operation.
+     */
+    private Map<Integer, String> execute(BulkOperations bulk) {
+        try {
+            bulk.execute();
+            return Map.of();
+        } catch (BulkOperationException ex) {
+            return ex.getErrors()
+                    .stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage));
+        }
+    }
+}
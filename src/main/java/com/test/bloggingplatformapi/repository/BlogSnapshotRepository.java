@@ -0,0 +1,7 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface BlogSnapshotRepository extends MongoRepository<BlogSnapshot, String>, BlogSnapshotRepositoryCustom {
+}
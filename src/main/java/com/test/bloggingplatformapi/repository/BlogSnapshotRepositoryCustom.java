@@ -0,0 +1,28 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+
+import java.util.Collection;
+
+public interface BlogSnapshotRepositoryCustom {
+
+    /**
+     * Stores each snapshot unless one of a later version is already stored, with one unordered bulk of upserts.
+     * A marker of the same version is replaced by a snapshot of that version, so a reader that rebuilds it wins;
+     * anything else of the same or a later version is kept, so a slow writer never puts back an outdated blog.
+     *
+     * @param snapshots - Snapshots or markers to store.
+     * @return int - Number stored.
+     */
+    int saveAllIfNewer(Collection<BlogSnapshot> snapshots);
+
+    /**
+     * Stores a marker unless one of the same or a later version is already stored, without relying on a failed
+     * write: inside a transaction any write error aborts it, so the skip of saveAllIfNewer cannot be used there.
+     * Every error is thrown, so a transaction never commits without its marker.
+     *
+     * @param marker - Marker to store.
+     * @return boolean - Whether it was stored.
+     */
+    boolean saveMarker(BlogSnapshot marker);
+}
@@ -0,0 +1,77 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteResult;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class BlogSnapshotRepositoryCustomImpl implements BlogSnapshotRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * The upsert of a snapshot whose stored version is not older matches nothing and tries to insert the same _id;
+     * that duplicate key error is the expected way of skipping it.
+     */
+    @Override
+    public int saveAllIfNewer(Collection<BlogSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        final BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BlogSnapshot.class);
+        snapshots.forEach(snapshot -> bulk.upsert(olderThan(snapshot), store(snapshot)));
+
+        try {
+            final BulkWriteResult result = bulk.execute();
+            return result.getUpserts().size() + result.getModifiedCount();
+        } catch (BulkOperationException ex) {
+            ex.getErrors().stream()
+                    .filter(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)
+                    .findFirst()
+                    .ifPresent(error -> {
+                        throw ex;
+                    });
+            return snapshots.size() - ex.getErrors().size();
+        }
+    }
+
+    /**
+     * The update matches an older snapshot; failing that, the marker is only inserted if there is no snapshot at all.
+     * In a transaction, a snapshot inserted concurrently makes the insert a write conflict, which the caller retries.
+     */
+    @Override
+    public boolean saveMarker(BlogSnapshot marker) {
+        if (mongoTemplate.updateFirst(olderThan(marker), store(marker), BlogSnapshot.class).getMatchedCount() > 0) {
+            return true;
+        }
+        if (mongoTemplate.exists(new Query(Criteria.where("_id").is(marker.getId())), BlogSnapshot.class)) {
+            return false;
+        }
+        mongoTemplate.insert(marker);
+        return true;
+    }
+
+    /**
+     * The stored document the snapshot may replace; also matched by the reactive stack when it writes markers.
+     */
+    static Query olderThan(BlogSnapshot snapshot) {
+        final Criteria older = Criteria.where("version").lt(snapshot.getVersion());
+        return new Query(Criteria.where("_id").is(snapshot.getId()).orOperator(snapshot.isMarker() ?
+                new Criteria[]{older} :
+                new Criteria[]{older, Criteria.where("version").is(snapshot.getVersion()).and("json").is(null)}));
+    }
+
+    static Update store(BlogSnapshot snapshot) {
+        return Update.update("version", snapshot.getVersion())
+                .set("updatedAt", snapshot.getUpdatedAt())
+                .set("json", snapshot.getJson());
+    }
+}
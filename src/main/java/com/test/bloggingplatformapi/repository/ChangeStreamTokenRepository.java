@@ -0,0 +1,7 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.ChangeStreamToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ChangeStreamTokenRepository extends MongoRepository<ChangeStreamToken, String> {
+}
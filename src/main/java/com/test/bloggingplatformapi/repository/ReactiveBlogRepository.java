@@ -0,0 +1,15 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of BlogRepository, used by the "reactive" profile.
+ */
+public interface ReactiveBlogRepository extends ReactiveMongoRepository<Blog, String>, ReactiveBlogRepositoryCustom {
+
+    @Query("{ '_id': ?0, 'objStatus': 'ACTIVE'}")
+    Mono<Blog> findBlogActiveById(String id);
+}
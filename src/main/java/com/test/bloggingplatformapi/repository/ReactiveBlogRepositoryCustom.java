@@ -0,0 +1,70 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository fragment for queries that need ReactiveMongoTemplate directly.
+ * Runs the same query shapes as BlogRepositoryCustom, taken from BlogQueries.
+ */
+public interface ReactiveBlogRepositoryCustom {
+
+    /**
+     * Emits all ACTIVE blogs as the cursor reads them, no faster than the subscriber requests them.
+     *
+     * @param batchSize - Upper bound of the documents fetched per round trip.
+     * @param fields - Fields to read.
+     * @return Flux<Blog> - The blogs.
+     */
+    Flux<Blog> streamAllActive(int batchSize, BlogFields fields);
+
+    /**
+     * One page of the full-text search over ACTIVE blogs.
+     *
+     * @param text - Words to search for.
+     * @param pageable - Page to fetch and its sort; the sort is ignored when ranking by relevance.
+     * @param rankByRelevance - Sort by text score instead of the pageable sort.
+     * @param fields - Fields to read.
+     * @return Flux<Blog> - The blogs of the page.
+     */
+    Flux<Blog> searchByText(String text, Pageable pageable, boolean rankByRelevance, BlogFields fields);
+
+    /**
+     * @param text - Words to search for.
+     * @return Mono<Long> - Number of ACTIVE blogs matching the search.
+     */
+    Mono<Long> countByText(String text);
+
+    /**
+     * Overwrites title, content, category and tags of an ACTIVE blog in one atomic findAndModify; null fields are
+     * written as null.
+     *
+     * @param id - ID of the blog.
+     * @param version - Version the caller read, null to skip the check.
+     * @param blog - The new content of the blog.
+     * @return Mono<Blog> - The blog after the update, empty if no ACTIVE blog has this ID and version.
+     */
+    Mono<Blog> replaceActive(String id, Long version, Blog blog);
+
+    /**
+     * Sets the non-null editable fields of an ACTIVE blog in one atomic findAndModify.
+     *
+     * @param id - ID of the blog.
+     * @param version - Version the caller read, null to skip the check.
+     * @param changes - Fields to set; null fields are left unchanged.
+     * @return Mono<Blog> - The blog after the update, empty if no ACTIVE blog has this ID and version.
+     */
+    Mono<Blog> patchActive(String id, Long version, Blog changes);
+
+    /**
+     * Marks an ACTIVE blog as DELETED with a single update.
+     *
+     * @param id - ID of the blog.
+     * @param version - Version the caller read, null to skip the check.
+     * @return Mono<Boolean> - Whether an ACTIVE blog with this ID and version was deleted.
+     */
+    Mono<Boolean> markDeleted(String id, Long version);
+}
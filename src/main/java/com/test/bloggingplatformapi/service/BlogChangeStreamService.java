@@ -0,0 +1,7 @@
+package com.test.bloggingplatformapi.service;
+
+import com.test.bloggingplatformapi.dtos.req.ChangeStreamStatsRes;
+
+public interface BlogChangeStreamService {
+    ChangeStreamStatsRes getChangeStreamStats();
+}
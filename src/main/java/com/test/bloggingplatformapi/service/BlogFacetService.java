@@ -0,0 +1,20 @@
+package com.test.bloggingplatformapi.service;
+
+import com.test.bloggingplatformapi.dtos.req.FacetsRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+
+public interface BlogFacetService {
+    FacetsRes getFacets();
+
+    void created(Blog blog);
+
+    void changed(Blog before, Blog after);
+
+    void deleted(Blog blog);
+
+    void flush();
+
+    FacetsRes reconcileFacets();
+
+    void recountFacets();
+}
@@ -0,0 +1,16 @@
+package com.test.bloggingplatformapi.service;
+
+import com.test.bloggingplatformapi.dtos.req.CompactionRes;
+import com.test.bloggingplatformapi.dtos.req.CompactionStatsRes;
+
+import java.time.Duration;
+
+public interface BlogMaintenanceService {
+    CompactionRes compactTombstones(Duration olderThan);
+
+    void purgeTombstones();
+
+    boolean startCompaction(Duration olderThan);
+
+    CompactionStatsRes getCompactionStats();
+}
@@ -0,0 +1,20 @@
+package com.test.bloggingplatformapi.service;
+
+import com.test.bloggingplatformapi.dtos.req.OutboxStatsRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+
+import java.util.function.Supplier;
+
+public interface BlogOutboxService {
+    <T> T write(Supplier<T> mutation);
+
+    void created(Blog blog);
+
+    void changed(Blog before, Blog after);
+
+    void deleted(Blog blog);
+
+    void dispatch();
+
+    OutboxStatsRes getOutboxStats();
+}
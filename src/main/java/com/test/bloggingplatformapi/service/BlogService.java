@@ -1,24 +1,60 @@
 package com.test.bloggingplatformapi.service;
 
+import com.test.bloggingplatformapi.cache.SnapshotSink;
 import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.BulkRes;
+import com.test.bloggingplatformapi.dtos.req.CursorPageRes;
+import com.test.bloggingplatformapi.dtos.res.BlogBulkUpdateReq;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
 import com.test.bloggingplatformapi.dtos.res.BlogReq;
 import com.test.bloggingplatformapi.dtos.req.PageRes;
 import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+import com.test.bloggingplatformapi.model.projection.ListStamp;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface BlogService {
     Set<BlogRes> getAllBlogs();
 
+    void streamAllBlogs(BlogFields fields, Consumer<BlogRes> consumer);
+
     BlogRes getBlogById(String id);
 
-    PageRes<BlogRes> searchBlogsByTitle(String title, int page, int size, String sortBy, String sortDir);
+    BlogSnapshot getBlogSnapshot(String id);
+
+    void sendBlogSnapshot(String id, SnapshotSink sink) throws IOException;
+
+    BlogStamp getBlogStamp(String id);
+
+    ListStamp getListStamp();
+
+    PageRes<BlogRes> searchBlogsByTitle(String title, int page, int size, String sortBy, String sortDir,
+                                        BlogFields fields);
+
+    CursorPageRes<BlogRes> scrollBlogs(String title, String cursor, int size, String sortBy, String sortDir,
+                                       BlogFields fields);
 
     BlogRes addBlog(BlogReq req);
 
     BlogRes updateBlog(String id, BlogReq req);
 
+    BlogRes patchBlog(String id, BlogPatchReq req);
+
     BlogRes updateTagsBlog(String id, Set<Tag> tags);
 
+    BlogRes addTagsBlog(String id, Set<Tag> tags);
+
     void deleteBlog(String id);
+
+    BulkRes addBlogs(List<BlogReq> reqs);
+
+    BulkRes updateBlogs(List<BlogBulkUpdateReq> reqs);
+
+    BulkRes deleteBlogs(List<String> ids);
 }
@@ -0,0 +1,17 @@
+package com.test.bloggingplatformapi.service;
+
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface BlogSnapshotService {
+    BlogSnapshot getSnapshot(String id);
+
+    BlogSnapshot materialize(Blog blog);
+
+    void changed(Map<String, Long> versions);
+
+    void deleted(Collection<String> ids);
+}
@@ -0,0 +1,29 @@
+package com.test.bloggingplatformapi.service;
+
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.PageRes;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
+import com.test.bloggingplatformapi.dtos.res.BlogReq;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBlogService {
+    Flux<BlogRes> streamAllBlogs(BlogFields fields);
+
+    Mono<BlogRes> getBlogById(String id);
+
+    Mono<PageRes<BlogRes>> searchBlogsByTitle(String title, int page, int size, String sortBy, String sortDir,
+                                              BlogFields fields);
+
+    Flux<BlogRes> streamSearchBlogsByTitle(String title, int page, int size, String sortBy, String sortDir,
+                                           BlogFields fields);
+
+    Mono<BlogRes> addBlog(BlogReq req);
+
+    Mono<BlogRes> updateBlog(String id, BlogReq req);
+
+    Mono<BlogRes> patchBlog(String id, BlogPatchReq req);
+
+    Mono<Void> deleteBlog(String id);
+}
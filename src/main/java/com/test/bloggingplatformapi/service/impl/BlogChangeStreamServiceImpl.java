@@ -0,0 +1,342 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.ChangeStreamStatsRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.ChangeStreamToken;
+import com.test.bloggingplatformapi.model.enums.ObjStatus;
+import com.test.bloggingplatformapi.model.event.BlogChangedEvent;
+import com.test.bloggingplatformapi.model.event.BlogChangesLostEvent;
+import com.test.bloggingplatformapi.repository.ChangeStreamTokenRepository;
+import com.test.bloggingplatformapi.service.BlogChangeStreamService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watches the change stream of the blogs collection and publishes a BlogChangedEvent for every insert, update,
+ * replace and delete, whichever node made it, so in-process caches on this node can drop what another node changed.
+ * <p>
+ * The stream is read on one daemon thread, started with the application context when blog.change-stream.enabled.
+ * Events are projected down to the blog's ID, version and status. The resume token is kept after every read and saved
+ * to blog_change_stream_tokens every blog.change-stream.token-save-interval and on shutdown, so a restart or a reconnect
+ * picks up where the node stopped. When the token can no longer be resumed from (it fell off the oplog) or the stream
+ * is invalidated, the stream restarts from now and a BlogChangesLostEvent tells consumers to drop everything.
+ * Any other failure, of Mongo or of an event listener, reopens the stream from the last token after
+ * blog.change-stream.retry-delay, so the thread never dies.
+ * <p>
+ * blog.change.stream.lag times each event from its write in Mongo to its delivery here (clock skew included);
+ * blog.change.stream.staleness is the age of the last read of the stream, which grows while it is disconnected.
+ */
+@Slf4j
+@Profile("!reactive")
+@Service
+public class BlogChangeStreamServiceImpl implements BlogChangeStreamService, SmartLifecycle {
+    static final String LAG = "blog.change.stream.lag";
+    static final String EVENTS = "blog.change.stream.events";
+    static final String STALENESS = "blog.change.stream.staleness";
+    static final String RESTARTS = "blog.change.stream.restarts";
+
+    /**
+     * InvalidResumeToken, ChangeStreamFatalError, ChangeStreamHistoryLost: the stream cannot resume from the token.
+     */
+    private static final Set<Integer> RESUME_FAILED = Set.of(260, 280, 286);
+    private static final Set<String> OPERATIONS = Set.of("insert", "update", "replace", "delete");
+    private static final String STATUS_FIELD = "ObjStatus";
+
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamTokenRepository changeStreamTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlogProperties.ChangeStream config;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong restarts = new AtomicLong();
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile LocalDateTime lastEventAt;
+    private volatile long lastLagMs = -1;
+    private volatile long lastReadAt;
+    private volatile LocalDateTime tokenSavedAt;
+    private Thread thread;
+
+    /**
+     * Owned by the stream thread, then by stop once the thread has ended.
+     */
+    private BsonDocument resumeToken;
+    private BsonDocument savedToken;
+    private long tokenSavedNanos;
+
+    public BlogChangeStreamServiceImpl(MongoTemplate mongoTemplate, ChangeStreamTokenRepository changeStreamTokenRepository,
+                                       ApplicationEventPublisher eventPublisher, BlogProperties blogProperties,
+                                       MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.changeStreamTokenRepository = changeStreamTokenRepository;
+        this.eventPublisher = eventPublisher;
+        this.config = blogProperties.getChangeStream();
+        this.meterRegistry = meterRegistry;
+        this.nodeId = config.getNodeId().isBlank() ? hostName() : config.getNodeId();
+    }
+
+    /**
+     * Get whether this node follows the blogs change stream, how many events it handled and how far behind it is.
+     *
+     * @return ChangeStreamStatsRes - The change stream statistics.
+     */
+    @Override
+    public ChangeStreamStatsRes getChangeStreamStats() {
+        return new ChangeStreamStatsRes(
+                config.isEnabled(),
+                connected,
+                nodeId,
+                events.get(),
+                restarts.get(),
+                lastEventAt,
+                lastLagMs,
+                tokenSavedAt
+        );
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        Gauge.builder(STALENESS, this, service -> service.lastReadAt == 0 ?
+                        Double.NaN :
+                        (System.currentTimeMillis() - service.lastReadAt) / 1000.0)
+                .description("Time since the blogs change stream was last read")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        resumeToken = loadToken();
+        savedToken = resumeToken;
+        running = true;
+        thread = new Thread(this::follow, "blog-change-stream");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Following the blogs change stream as node {}{}", nodeId,
+                resumeToken == null ? "" : ", resuming from the saved token");
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            thread.join(config.getMaxAwaitTime().multipliedBy(2).plusSeconds(1).toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (!thread.isAlive()) {
+            saveToken();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void follow() {
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open().cursor()) {
+                connected = true;
+                while (running) {
+                    final ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null && !handle(change)) {
+                        break;
+                    }
+                    if (cursor.getResumeToken() != null) {
+                        resumeToken = cursor.getResumeToken();
+                    }
+                    lastReadAt = System.currentTimeMillis();
+                    if (System.nanoTime() - tokenSavedNanos >= config.getTokenSaveInterval().toNanos()) {
+                        saveToken();
+                    }
+                }
+            } catch (MongoException ex) {
+                connected = false;
+                if (!running) {
+                    break;
+                }
+                countRestart();
+                if (ex instanceof MongoCommandException command && RESUME_FAILED.contains(command.getErrorCode())) {
+                    log.warn("Cannot resume the blogs change stream, restarting it from now: {}", ex.getMessage());
+                    lose("resume token expired");
+                    continue;
+                }
+                log.warn("Blogs change stream failed, reopening it in {}: {}", config.getRetryDelay(), ex.getMessage());
+                pause(config.getRetryDelay());
+            } catch (RuntimeException ex) {
+                // E.g. a failing listener: the event is not acknowledged, so the reopened stream delivers it again
+                connected = false;
+                if (!running) {
+                    break;
+                }
+                countRestart();
+                log.error("Blogs change stream event could not be handled, reopening it in {}", config.getRetryDelay(), ex);
+                pause(config.getRetryDelay());
+            }
+            connected = false;
+        }
+    }
+
+    private ChangeStreamIterable<Document> open() {
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.in("operationType", OPERATIONS)),
+                Aggregates.project(Projections.include(
+                        "operationType", "documentKey", "clusterTime", "wallTime",
+                        "fullDocument.version", "fullDocument." + STATUS_FIELD,
+                        "updateDescription.updatedFields.version", "updateDescription.updatedFields." + STATUS_FIELD))
+        );
+        final ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Blog.class))
+                .watch(pipeline)
+                .maxAwaitTime(config.getMaxAwaitTime().toMillis(), TimeUnit.MILLISECONDS);
+        return resumeToken == null ? stream : stream.resumeAfter(resumeToken);
+    }
+
+    /**
+     * @return boolean - False if the stream was invalidated (collection dropped or renamed) and must be reopened.
+     */
+    boolean handle(ChangeStreamDocument<Document> change) {
+        final String operation = change.getOperationTypeString();
+        if (!OPERATIONS.contains(operation)) {
+            log.warn("Blogs change stream invalidated by {}, restarting it from now", operation);
+            lose("stream invalidated by " + operation);
+            return false;
+        }
+
+        final BsonDocument fields = "update".equals(operation) ?
+                change.getUpdateDescription().getUpdatedFields() :
+                change.getFullDocument() == null ? null : change.getFullDocument().toBsonDocument();
+        final BsonValue version = fields == null ? null : fields.get("version");
+        final BsonValue status = fields == null ? null : fields.get(STATUS_FIELD);
+
+        final Instant changedAt = change.getWallTime() != null ?
+                Instant.ofEpochMilli(change.getWallTime().getValue()) :
+                Instant.ofEpochSecond(change.getClusterTime().getTime());
+        eventPublisher.publishEvent(new BlogChangedEvent(
+                idOf(change.getDocumentKey()),
+                version != null && version.isNumber() ? version.asNumber().longValue() : null,
+                "delete".equals(operation) ||
+                        status != null && status.isString() && ObjStatus.DELETED.name().equals(status.asString().getValue()),
+                changedAt
+        ));
+
+        final long lagMs = Math.max(0, System.currentTimeMillis() - changedAt.toEpochMilli());
+        Timer.builder(LAG)
+                .description("Delay between a write to the blogs collection and its change event reaching this node")
+                .register(meterRegistry)
+                .record(lagMs, TimeUnit.MILLISECONDS);
+        Counter.builder(EVENTS)
+                .description("Blog change events handled")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+        events.incrementAndGet();
+        lastEventAt = LocalDateTime.now();
+        lastLagMs = lagMs;
+        return true;
+    }
+
+    private void countRestart() {
+        restarts.incrementAndGet();
+        meterRegistry.counter(RESTARTS).increment();
+    }
+
+    private void lose(String reason) {
+        resumeToken = null;
+        eventPublisher.publishEvent(new BlogChangesLostEvent(reason));
+    }
+
+    private BsonDocument loadToken() {
+        try {
+            return changeStreamTokenRepository.findById(nodeId)
+                    .map(saved -> BsonDocument.parse(saved.getToken()))
+                    .orElse(null);
+        } catch (DataAccessException ex) {
+            log.warn("Could not load the blogs change stream token of node {}, starting from now: {}",
+                    nodeId, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void saveToken() {
+        tokenSavedNanos = System.nanoTime();
+        if (resumeToken == null || resumeToken.equals(savedToken)) {
+            return;
+        }
+        try {
+            final LocalDateTime now = LocalDateTime.now();
+            changeStreamTokenRepository.save(new ChangeStreamToken(nodeId, resumeToken.toJson(), now));
+            savedToken = resumeToken;
+            tokenSavedAt = now;
+        } catch (DataAccessException ex) {
+            log.warn("Could not save the blogs change stream token: {}", ex.getMessage());
+        }
+    }
+
+    private void pause(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String idOf(BsonDocument documentKey) {
+        final BsonValue id = documentKey.get("_id");
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            return "localhost";
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.FacetsRes;
+import com.test.bloggingplatformapi.exception.ConflictException;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogFacetCounts;
+import com.test.bloggingplatformapi.model.entity.BlogOutboxEntry;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.event.BlogMutationsEvent;
+import com.test.bloggingplatformapi.repository.BlogFacetRepository;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import com.test.bloggingplatformapi.service.BlogFacetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Counts of ACTIVE blogs per category and per tag, served from memory.
+ * Writes add to per-node LongAdders, one set per second; every blog.facets.flush-interval the deltas of the past
+ * seconds are $inc-ed into the shared counts document, which is read back so the changes made by other nodes show up
+ * too.
+ * blog.facets.reconcile-cron recomputes the counts from the blogs collection, which corrects any drift left by
+ * writes that raced with a bulk read. One node recounts at a time, under a lease kept in the counts document.
+ * A recount starts a new epoch and records when its aggregation ended. Increments only apply to the epoch they were
+ * counted against, so a node that has not seen the recount yet cannot add its deltas on top of it: it reads the
+ * new counts, drops the seconds the recount already covered and sends the rest.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BlogFacetServiceImpl implements BlogFacetService {
+
+    private final BlogRepository blogRepository;
+    private final BlogFacetRepository blogFacetRepository;
+    private final BlogProperties blogProperties;
+
+    /**
+     * Changes not flushed yet, by the second they were counted in.
+     */
+    private final ConcurrentSkipListMap<LocalDateTime, Deltas> pending = new ConcurrentSkipListMap<>();
+
+    /**
+     * Holder of the recount lease.
+     */
+    private final String owner = UUID.randomUUID().toString();
+
+    /**
+     * Last counts read from Mongo, null until the first flush.
+     */
+    private volatile BlogFacetCounts persisted;
+
+    /**
+     * Get the number of ACTIVE blogs per category and per tag, including the changes not flushed yet.
+     * No query is run.
+     *
+     * @return FacetsRes - The counts.
+     */
+    @Override
+    public FacetsRes getFacets() {
+        final BlogFacetCounts counts = persisted;
+        final Map<Category, Long> pendingCategories = sum(pending.values(), Deltas::categories, Category.class);
+        final Map<Tag, Long> pendingTags = sum(pending.values(), Deltas::tags, Tag.class);
+        final Map<Category, Long> categories = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            categories.put(category, Math.max(0, stored(counts == null ? null : counts.getCategories(), category)
+                    + pendingCategories.getOrDefault(category, 0L)));
+        }
+        final Map<Tag, Long> tags = new EnumMap<>(Tag.class);
+        for (Tag tag : Tag.values()) {
+            tags.put(tag, Math.max(0, stored(counts == null ? null : counts.getTags(), tag)
+                    + pendingTags.getOrDefault(tag, 0L)));
+        }
+
+        return new FacetsRes(categories, tags, counts == null ? null : counts.getReconciledAt());
+    }
+
+    @Override
+    public void created(Blog blog) {
+        add(blog, 1);
+    }
+
+    @Override
+    public void changed(Blog before, Blog after) {
+        if (before.getCategory() == after.getCategory() && Objects.equals(before.getTags(), after.getTags())) {
+            return;
+        }
+        add(before, -1);
+        add(after, 1);
+    }
+
+    @Override
+    public void deleted(Blog blog) {
+        add(blog, -1);
+    }
+
+    /**
+     * Outbox entries, counted by the one node that claimed them.
+     * A batch delivered again after a failure is counted again; the next reconcile corrects it.
+     *
+     * @param event - A batch of outbox entries.
+     */
+    @EventListener
+    @Order(2)
+    public void onBlogMutations(BlogMutationsEvent event) {
+        for (BlogOutboxEntry entry : event.entries()) {
+            switch (entry.getOperation()) {
+                case CREATED -> created(entry.getAfter());
+                case UPDATED -> changed(entry.getBefore(), entry.getAfter());
+                case DELETED -> deleted(entry.getBefore());
+            }
+        }
+    }
+
+    /**
+     * Push the changes counted on this node before the current second to the shared counts document and read back
+     * the totals. If Mongo cannot be reached the changes are kept for the next flush.
+     * The first flush loads the counts, or computes them when the document does not exist yet.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${blog.facets.flush-interval:5s}")
+    public synchronized void flush() {
+        try {
+            if (persisted == null) {
+                adopt(blogFacetRepository.findById(BlogFacetCounts.ACTIVE_ID).orElse(null));
+                if (persisted == null) {
+                    recount(null);
+                    return;
+                }
+            }
+            final Map<LocalDateTime, Deltas> ready = pending.headMap(now(), false);
+            final Map<Category, Long> categories = sum(ready.values(), Deltas::categories, Category.class);
+            final Map<Tag, Long> tags = sum(ready.values(), Deltas::tags, Tag.class);
+            if (categories.isEmpty() && tags.isEmpty()) {
+                ready.clear();
+                adopt(blogFacetRepository.findById(BlogFacetCounts.ACTIVE_ID).orElse(null));
+                return;
+            }
+            final BlogFacetCounts incremented = blogFacetRepository.increment(BlogFacetCounts.ACTIVE_ID,
+                    persisted.getEpoch(), categories, tags);
+            if (incremented == null) {
+                // Recounted since: what it covered is dropped, the rest is sent by the next flush
+                adopt(blogFacetRepository.findById(BlogFacetCounts.ACTIVE_ID).orElse(null));
+                return;
+            }
+            ready.clear();
+            persisted = incremented;
+        } catch (DataAccessException ex) {
+            log.warn("Could not flush the blog facet counts, keeping the changes for the next flush: {}",
+                    ex.getMessage());
+        }
+    }
+
+    /**
+     * Recompute the counts from the blogs collection and replace the shared counts document.
+     * Scans every ACTIVE blog with one $facet aggregation.
+     *
+     * @return FacetsRes - The recomputed counts.
+     * @throws ConflictException - If another node is recounting them.
+     */
+    @Override
+    public synchronized FacetsRes reconcileFacets() {
+        if (!recount(null)) {
+            throw new ConflictException("The facet counts are being recounted by another node!");
+        }
+        return getFacets();
+    }
+
+    /**
+     * Scheduled reconcile, on blog.facets.reconcile-cron; "-" disables it.
+     * Every node runs it, but only the first one recounts: the others find the lease taken, or the counts
+     * recounted less than blog.facets.reconcile-lease ago.
+     */
+    @Override
+    @Scheduled(cron = "${blog.facets.reconcile-cron:-}")
+    public synchronized void recountFacets() {
+        try {
+            if (!recount(LocalDateTime.now().minus(blogProperties.getFacets().getReconcileLease()))) {
+                log.debug("Blog facet counts recounted by another node, skipping");
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not reconcile the blog facet counts: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * The aggregation sees the writes made before it ends, so the changes counted until then are dropped by every
+     * node once it reads the new epoch, this one included.
+     *
+     * @return boolean - Whether this node recounted, false if it could not take the lease.
+     */
+    private boolean recount(LocalDateTime reconciledBefore) {
+        if (!blogFacetRepository.lockRecount(BlogFacetCounts.ACTIVE_ID, owner,
+                blogProperties.getFacets().getReconcileLease(), reconciledBefore)) {
+            return false;
+        }
+        final BlogFacetCounts saved;
+        try {
+            final long start = System.nanoTime();
+            final BlogFacetCounts counts = blogRepository.countActiveFacets();
+            counts.setCountedUntil(LocalDateTime.now());
+            counts.setReconciledAt(counts.getCountedUntil());
+            saved = blogFacetRepository.saveRecount(BlogFacetCounts.ACTIVE_ID, owner, counts);
+            log.info("Reconciled blog facet counts in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            blogFacetRepository.unlockRecount(BlogFacetCounts.ACTIVE_ID, owner);
+            throw ex;
+        }
+        if (saved == null) {
+            log.warn("Lost the blog facet recount lease before saving, raise blog.facets.reconcile-lease");
+            return false;
+        }
+        adopt(saved);
+        return true;
+    }
+
+    /**
+     * Take the counts read from Mongo; when they were recounted since the last read, drop the changes counted up to
+     * the end of that recount, as it already includes them.
+     */
+    private void adopt(BlogFacetCounts counts) {
+        final BlogFacetCounts previous = persisted;
+        if (counts != null && counts.getCountedUntil() != null &&
+                (previous == null || previous.getEpoch() != counts.getEpoch())) {
+            pending.headMap(counts.getCountedUntil(), true).clear();
+        }
+        persisted = counts;
+    }
+
+    private void add(Blog blog, long delta) {
+        final Deltas deltas = pending.computeIfAbsent(now(), second -> new Deltas());
+        if (blog.getCategory() != null) {
+            deltas.categories().get(blog.getCategory()).add(delta);
+        }
+        final Set<Tag> tags = blog.getTags();
+        if (tags != null) {
+            tags.forEach(tag -> deltas.tags().get(tag).add(delta));
+        }
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static <K> long stored(Map<K, Long> counts, K key) {
+        final Long count = counts == null ? null : counts.get(key);
+        return count == null ? 0 : count;
+    }
+
+    private static <K extends Enum<K>> Map<K, LongAdder> adders(K[] keys, Map<K, LongAdder> adders) {
+        for (K key : keys) {
+            adders.put(key, new LongAdder());
+        }
+        return adders;
+    }
+
+    private static <K extends Enum<K>> Map<K, Long> sum(Collection<Deltas> slices,
+                                                         Function<Deltas, Map<K, LongAdder>> adders, Class<K> type) {
+        final Map<K, Long> sums = new EnumMap<>(type);
+        slices.forEach(slice -> adders.apply(slice).forEach((key, adder) -> {
+            final long delta = adder.sum();
+            if (delta != 0) {
+                sums.merge(key, delta, Long::sum);
+            }
+        }));
+        return sums;
+    }
+
+    /**
+     * Changes counted by this node within one second.
+     */
+    private record Deltas(Map<Category, LongAdder> categories, Map<Tag, LongAdder> tags) {
+        Deltas() {
+            this(adders(Category.values(), new EnumMap<>(Category.class)),
+                    adders(Tag.values(), new EnumMap<>(Tag.class)));
+        }
+    }
+}
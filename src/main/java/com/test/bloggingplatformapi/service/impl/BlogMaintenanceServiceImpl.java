@@ -0,0 +1,175 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.CompactionRes;
+import com.test.bloggingplatformapi.dtos.req.CompactionStatsRes;
+import com.test.bloggingplatformapi.exception.BadRequestException;
+import com.test.bloggingplatformapi.exception.ConflictException;
+import com.test.bloggingplatformapi.exception.ErrorCode;
+import com.test.bloggingplatformapi.model.projection.Tombstone;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import com.test.bloggingplatformapi.repository.BlogSnapshotRepository;
+import com.test.bloggingplatformapi.service.BlogMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BlogMaintenanceServiceImpl implements BlogMaintenanceService {
+
+    private final BlogRepository blogRepository;
+    private final BlogSnapshotRepository blogSnapshotRepository;
+    private final BlogProperties blogProperties;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong totalRemoved = new AtomicLong();
+    private final AtomicLong totalBytesReclaimed = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastRunAt = new AtomicReference<>();
+    private final AtomicReference<CompactionRes> lastRun = new AtomicReference<>();
+
+    /**
+     * Remove for good the DELETED blogs (tombstones) deleted longer ago than the given age.
+     * Tombstones are removed in batches of blog.compaction.batch-size with blog.compaction.pause between them;
+     * each batch is one lookup on the status + deletedAt index, an optional $merge into the archive collection
+     * and one delete (plus one for their snapshot markers), so no single command holds the collection long.
+     * Only one run happens at a time.
+     *
+     * @param olderThan - Minimum age of the tombstones to remove, zero for all of them.
+     * @return CompactionRes - Number of blogs removed, bytes reclaimed, batches run and time taken.
+     * @throws ConflictException - If a run is already in progress.
+     */
+    @Override
+    public CompactionRes compactTombstones(Duration olderThan) {
+        if (olderThan.isNegative()) {
+            throw new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(), "Age must not be negative!");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("Tombstone compaction is already running!");
+        }
+        try {
+            return compact(olderThan);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Scheduled purge of the tombstones older than blog.compaction.retention, on the scheduler thread.
+     * Runs on blog.compaction.cron; "-" disables it.
+     */
+    @Override
+    @Scheduled(cron = "${blog.compaction.cron:-}")
+    public void purgeTombstones() {
+        try {
+            compactTombstones(blogProperties.getCompaction().getRetention());
+        } catch (ConflictException ex) {
+            log.info("Skipping scheduled tombstone purge, a compaction is already running");
+        }
+    }
+
+    /**
+     * Start a compaction on the scheduler thread and return at once, so the caller's request thread is not held.
+     *
+     * @param olderThan - Minimum age of the tombstones to remove, zero for all of them.
+     * @return boolean - False if a compaction is already running.
+     */
+    @Override
+    public boolean startCompaction(Duration olderThan) {
+        if (olderThan.isNegative()) {
+            throw new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(), "Age must not be negative!");
+        }
+        if (running.get()) {
+            return false;
+        }
+        taskScheduler.schedule(() -> {
+            try {
+                compactTombstones(olderThan);
+            } catch (ConflictException ex) {
+                log.info("Skipping requested tombstone compaction, a compaction is already running");
+            }
+        }, Instant.now());
+        return true;
+    }
+
+    /**
+     * Get the totals of the compaction runs since startup and the outcome of the last one.
+     *
+     * @return CompactionStatsRes - The compaction statistics.
+     */
+    @Override
+    public CompactionStatsRes getCompactionStats() {
+        return new CompactionStatsRes(
+                running.get(),
+                runs.get(),
+                totalRemoved.get(),
+                totalBytesReclaimed.get(),
+                lastRunAt.get(),
+                lastRun.get()
+        );
+    }
+
+    private CompactionRes compact(Duration olderThan) {
+        final BlogProperties.Compaction compaction = blogProperties.getCompaction();
+        final long start = System.nanoTime();
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final LocalDateTime cutoff = startedAt.minus(olderThan);
+
+        long removed = 0;
+        long bytes = 0;
+        int batches = 0;
+        List<Tombstone> tombstones = blogRepository.findTombstones(cutoff, compaction.getBatchSize());
+        while (!tombstones.isEmpty()) {
+            final List<String> ids = tombstones.stream().map(Tombstone::id).toList();
+            if (compaction.isArchive()) {
+                blogRepository.archiveTombstones(ids, compaction.getArchiveCollection());
+            }
+            removed += blogRepository.removeTombstones(ids);
+            blogSnapshotRepository.deleteAllById(ids);
+            bytes += tombstones.stream().mapToLong(Tombstone::bsonSize).sum();
+            batches++;
+
+            if (tombstones.size() < compaction.getBatchSize() || !pause(compaction.getPause())) {
+                break;
+            }
+            tombstones = blogRepository.findTombstones(cutoff, compaction.getBatchSize());
+        }
+
+        final CompactionRes result = new CompactionRes(removed, compaction.isArchive(), bytes, batches,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+        runs.incrementAndGet();
+        totalRemoved.addAndGet(removed);
+        totalBytesReclaimed.addAndGet(bytes);
+        lastRunAt.set(startedAt);
+        lastRun.set(result);
+        log.info("Compacted {} blog tombstones older than {} ({} bytes, {} batches, {} ms)",
+                removed, olderThan, bytes, batches, result.durationMs());
+        return result;
+    }
+
+    /**
+     * @return boolean - False if the thread was interrupted, which stops the run after the current batch.
+     */
+    private boolean pause(Duration pause) {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
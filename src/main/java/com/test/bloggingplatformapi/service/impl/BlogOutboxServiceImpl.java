@@ -0,0 +1,272 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.mongodb.MongoException;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.OutboxStatsRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogOutboxEntry;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.model.enums.BlogOperation;
+import com.test.bloggingplatformapi.model.event.BlogMutationsEvent;
+import com.test.bloggingplatformapi.repository.BlogOutboxRepository;
+import com.test.bloggingplatformapi.repository.BlogSnapshotRepository;
+import com.test.bloggingplatformapi.service.BlogFacetService;
+import com.test.bloggingplatformapi.service.BlogOutboxService;
+import com.test.bloggingplatformapi.service.BlogSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Side effects of single-blog writes: the blog's snapshot and the facet counts.
+ * <p>
+ * With blog.outbox.enabled, the write, an outbox entry and, for updates and deletes, a snapshot marker are committed
+ * in one Mongo transaction, and the request thread does nothing else. The marker keeps reads consistent at once: the
+ * outdated snapshot is no longer served, and the first read rebuilds it. It is written straight to the repository, so
+ * a failure to store it fails the transaction rather than being logged and committed without it. dispatch then claims
+ * the entries in batches of blog.outbox.batch-size and publishes them as a BlogMutationsEvent, which stores the new
+ * snapshots ahead of the reads and counts the facets, before the entries are removed. A node that fails or stops
+ * mid-batch leaves its claim to expire after blog.outbox.lease, and the batch is delivered again.
+ * <p>
+ * Without it there is no transaction manager, and the side effects run inline, after the write, as they always did.
+ * Bulk writes keep running inline either way, as they are not transactional.
+ */
+@Slf4j
+@Service
+public class BlogOutboxServiceImpl implements BlogOutboxService {
+
+    private final BlogOutboxRepository blogOutboxRepository;
+    private final BlogSnapshotService blogSnapshotService;
+    private final BlogSnapshotRepository blogSnapshotRepository;
+    private final BlogFacetService blogFacetService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlogProperties.Outbox config;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong redelivered = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong failedEntries = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong transactionRetries = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastDispatchAt = new AtomicReference<>();
+    private volatile boolean indexed;
+
+    public BlogOutboxServiceImpl(BlogOutboxRepository blogOutboxRepository, BlogSnapshotService blogSnapshotService,
+                                 BlogSnapshotRepository blogSnapshotRepository, BlogFacetService blogFacetService,
+                                 ApplicationEventPublisher eventPublisher, BlogProperties blogProperties,
+                                 ObjectProvider<MongoTransactionManager> transactionManager) {
+        this.blogOutboxRepository = blogOutboxRepository;
+        this.blogSnapshotService = blogSnapshotService;
+        this.blogSnapshotRepository = blogSnapshotRepository;
+        this.blogFacetService = blogFacetService;
+        this.eventPublisher = eventPublisher;
+        this.config = blogProperties.getOutbox();
+        final MongoTransactionManager manager = config.isEnabled() ? transactionManager.getIfAvailable() : null;
+        this.transactionTemplate = manager == null ? null : new TransactionTemplate(manager);
+    }
+
+    /**
+     * Run a blog write and the side effects it records in one transaction.
+     * A transaction aborted by a transient error (e.g. a write conflict with a concurrent change of the same blog)
+     * is run again, up to blog.outbox.max-attempts times; the mutation must therefore only write through Mongo.
+     * Without the outbox the mutation runs as is.
+     *
+     * @param mutation - The write; its exceptions roll the transaction back and are rethrown.
+     * @return T - What the mutation returned.
+     */
+    @Override
+    public <T> T write(Supplier<T> mutation) {
+        if (transactionTemplate == null) {
+            return mutation.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> mutation.get());
+            } catch (DataAccessException ex) {
+                if (attempt >= config.getMaxAttempts() || !isTransient(ex)) {
+                    throw ex;
+                }
+                transactionRetries.incrementAndGet();
+                log.debug("Retrying blog write after a transient transaction error: {}", ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void created(Blog blog) {
+        if (transactionTemplate == null) {
+            blogFacetService.created(blog);
+            blogSnapshotService.materialize(blog);
+            return;
+        }
+        append(BlogOperation.CREATED, blog.getId(), blog.getVersion(), null, blog);
+    }
+
+    @Override
+    public void changed(Blog before, Blog after) {
+        if (transactionTemplate == null) {
+            blogFacetService.changed(before, after);
+            blogSnapshotService.materialize(after);
+            return;
+        }
+        blogSnapshotRepository.saveMarker(BlogSnapshot.marker(after.getId(),
+                after.getVersion() == null ? -1 : after.getVersion()));
+        append(BlogOperation.UPDATED, after.getId(), after.getVersion(), before, after);
+    }
+
+    @Override
+    public void deleted(Blog blog) {
+        if (transactionTemplate == null) {
+            blogFacetService.deleted(blog);
+            blogSnapshotService.deleted(List.of(blog.getId()));
+            return;
+        }
+        blogSnapshotRepository.saveMarker(BlogSnapshot.marker(blog.getId(), BlogSnapshot.DELETED));
+        append(BlogOperation.DELETED, blog.getId(), blog.getVersion(), blog, null);
+    }
+
+    /**
+     * Publish the pending outbox entries, batch after batch until none is left.
+     * Runs every blog.outbox.poll-interval. When the consumers fail on a batch, its entries are published again one
+     * by one, so one failing entry does not hold back the others: those delivered are removed, the failing ones stay
+     * claimed and are delivered again after their lease, or, from their blog.outbox.max-deliveries-th delivery on,
+     * are moved to blog.outbox.dead-letter-collection. Their facets are then only corrected by the next reconcile.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${blog.outbox.poll-interval:500ms}")
+    public synchronized void dispatch() {
+        if (transactionTemplate == null) {
+            return;
+        }
+        try {
+            if (!indexed) {
+                blogOutboxRepository.ensureIndexes();
+                indexed = true;
+            }
+            List<BlogOutboxEntry> batch;
+            do {
+                batch = blogOutboxRepository.claim(config.getBatchSize(), config.getLease());
+                if (batch.isEmpty()) {
+                    break;
+                }
+                final Map<BlogOutboxEntry, RuntimeException> failures = new LinkedHashMap<>();
+                final List<BlogOutboxEntry> delivered = deliver(batch, failures);
+                blogOutboxRepository.deleteAllById(delivered.stream().map(BlogOutboxEntry::getId).toList());
+                failures.forEach(this::failed);
+
+                dispatched.addAndGet(delivered.size());
+                redelivered.addAndGet(delivered.stream().filter(entry -> entry.getAttempts() > 1).count());
+                lastDispatchAt.set(LocalDateTime.now());
+            } while (batch.size() == config.getBatchSize());
+        } catch (RuntimeException ex) {
+            failedBatches.incrementAndGet();
+            log.warn("Could not dispatch the blog outbox, the claimed entries are delivered again after {}: {}",
+                    config.getLease(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Publish a batch, or each of its entries on its own if the consumers fail on the batch.
+     *
+     * @param failures - Filled with the entries whose consumers failed on their own, with the error.
+     * @return List<BlogOutboxEntry> - The entries whose consumers all succeeded.
+     */
+    private List<BlogOutboxEntry> deliver(List<BlogOutboxEntry> batch,
+                                          Map<BlogOutboxEntry, RuntimeException> failures) {
+        try {
+            eventPublisher.publishEvent(new BlogMutationsEvent(batch));
+            return batch;
+        } catch (RuntimeException ex) {
+            log.debug("Could not deliver a batch of {} outbox entries, delivering them one by one: {}",
+                    batch.size(), ex.getMessage());
+        }
+        final List<BlogOutboxEntry> delivered = new ArrayList<>(batch.size());
+        for (BlogOutboxEntry entry : batch) {
+            try {
+                eventPublisher.publishEvent(new BlogMutationsEvent(List.of(entry)));
+                delivered.add(entry);
+            } catch (RuntimeException ex) {
+                failures.put(entry, ex);
+            }
+        }
+        return delivered;
+    }
+
+    private void failed(BlogOutboxEntry entry, RuntimeException ex) {
+        failedEntries.incrementAndGet();
+        if (entry.getAttempts() < config.getMaxDeliveries()) {
+            log.warn("Could not deliver outbox entry {} of blog {} (delivery {}), delivering it again after {}: {}",
+                    entry.getId(), entry.getBlogId(), entry.getAttempts(), config.getLease(), ex.getMessage());
+            return;
+        }
+        log.error("Could not deliver outbox entry {} of blog {} after {} deliveries, moving it to {}",
+                entry.getId(), entry.getBlogId(), entry.getAttempts(), config.getDeadLetterCollection(), ex);
+        entry.setError(String.valueOf(ex.getMessage()));
+        blogOutboxRepository.deadLetter(entry, config.getDeadLetterCollection());
+        deadLettered.incrementAndGet();
+    }
+
+    /**
+     * Get how many outbox entries are waiting and how many were dispatched, delivered again or failed.
+     *
+     * @return OutboxStatsRes - The outbox statistics.
+     */
+    @Override
+    public OutboxStatsRes getOutboxStats() {
+        return new OutboxStatsRes(
+                transactionTemplate != null,
+                transactionTemplate == null ? 0 : blogOutboxRepository.count(),
+                dispatched.get(),
+                redelivered.get(),
+                failedBatches.get(),
+                failedEntries.get(),
+                deadLettered.get(),
+                transactionRetries.get(),
+                lastDispatchAt.get()
+        );
+    }
+
+    private void append(BlogOperation operation, String blogId, Long version, Blog before, Blog after) {
+        final LocalDateTime now = LocalDateTime.now();
+        blogOutboxRepository.insert(BlogOutboxEntry.builder()
+                .blogId(blogId)
+                .operation(operation)
+                .version(version)
+                .before(facets(before))
+                .after(facets(after))
+                .createdAt(now)
+                .claimedUntil(now)
+                .build());
+    }
+
+    /**
+     * Only what the facet counts need is kept in the entry.
+     */
+    private static Blog facets(Blog blog) {
+        return blog == null ? null : Blog.builder().category(blog.getCategory()).tags(blog.getTags()).build();
+    }
+
+    private static boolean isTransient(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongo && mongo.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,44 +1,110 @@
 package com.test.bloggingplatformapi.service.impl;
 
+import com.test.bloggingplatformapi.cache.BlogCache;
+import com.test.bloggingplatformapi.cache.RequestCoalescer;
+import com.test.bloggingplatformapi.cache.SearchKey;
+import com.test.bloggingplatformapi.cache.SnapshotSink;
+import com.test.bloggingplatformapi.config.BlogProperties;
 import com.test.bloggingplatformapi.converter.BlogConverter;
+import com.test.bloggingplatformapi.converter.CursorConverter;
 import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.BulkItemRes;
+import com.test.bloggingplatformapi.dtos.req.BulkRes;
+import com.test.bloggingplatformapi.dtos.req.CursorPageRes;
+import com.test.bloggingplatformapi.dtos.res.BlogBulkUpdateReq;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
 import com.test.bloggingplatformapi.dtos.res.BlogReq;
 import com.test.bloggingplatformapi.dtos.req.PageRes;
+import com.test.bloggingplatformapi.exception.BadRequestException;
+import com.test.bloggingplatformapi.exception.ConflictException;
+import com.test.bloggingplatformapi.exception.ErrorCode;
 import com.test.bloggingplatformapi.exception.NotFoundException;
 import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.model.enums.BulkItemStatus;
 import com.test.bloggingplatformapi.model.enums.ObjStatus;
 import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.pagination.BlogCursor;
+import com.test.bloggingplatformapi.model.projection.BlogChange;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+import com.test.bloggingplatformapi.model.projection.BulkUpdateResult;
+import com.test.bloggingplatformapi.model.projection.ListStamp;
 import com.test.bloggingplatformapi.repository.BlogRepository;
+import com.test.bloggingplatformapi.service.BlogFacetService;
+import com.test.bloggingplatformapi.service.BlogOutboxService;
 import com.test.bloggingplatformapi.service.BlogService;
+import com.test.bloggingplatformapi.service.BlogSnapshotService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
 public class BlogServiceImpl implements BlogService {
+    private static final String SORT_BY_RELEVANCE = "relevance";
+
     private final BlogRepository blogRepository;
+    private final BlogProperties blogProperties;
+    private final BlogCache blogCache;
+    private final RequestCoalescer<SearchKey, PageRes<BlogRes>> searchCoalescer;
+    private final Validator validator;
+    private final BlogFacetService blogFacetService;
+    private final BlogSnapshotService blogSnapshotService;
+    private final BlogOutboxService blogOutboxService;
 
     /**
-     * Get all blogs and convert to DTO.
+     * Get all active blogs and convert to DTO.
 
      * @return Set<BlogRes> - List of blogs as DTO.
      */
     @Override
     public Set<BlogRes> getAllBlogs() {
         return BlogConverter.convertToDtoList(
-                blogRepository.findAll());
+                blogRepository.findAllActive());
+    }
+
+    /**
+     * Stream all active blogs from a Mongo cursor, converting each one to DTO as it is read.
+     * Only one cursor batch is held in memory at a time.
+     *
+     * @param fields - Fields to read and return.
+     * @param consumer - Receives each blog as a DTO.
+     */
+    @Override
+    public void streamAllBlogs(BlogFields fields, Consumer<BlogRes> consumer) {
+        try (Stream<Blog> blogs = blogRepository.streamAllActive(blogProperties.getStream().getBatchSize(), fields)) {
+            blogs.map(BlogConverter::covertToDto)
+                    .forEach(consumer);
+        }
     }
 
     /**
      * Get the details of a blog based on ID.
+     * Reads Mongo every time; GET /blogs/{id} is served from getBlogSnapshot instead.
 
      * @param id - ID of the blog to get information from.
 
@@ -50,33 +116,105 @@ public class BlogServiceImpl implements BlogService {
         return BlogConverter.covertToDto(findBlogById(id));
     }
 
+    /**
+     * Get a blog as the JSON bytes materialized when it was written, ready to be sent as they are.
+     * Served from the blog cache; only a miss reads the snapshot from Mongo, once for all concurrent readers of the ID.
+     *
+     * @param id - ID of the blog.
+     * @return BlogSnapshot - The snapshot of the blog.
+     * @throws NotFoundException - If the blog does not exist or is not ACTIVE.
+     */
+    @Override
+    public BlogSnapshot getBlogSnapshot(String id) {
+        return blogCache.get(id, blogSnapshotService::getSnapshot);
+    }
+
+    /**
+     * Send a blog's snapshot to the sink.
+     * A cached snapshot is handed over straight from the cache's off-heap memory, never copied to the heap;
+     * otherwise it is loaded as by getBlogSnapshot.
+     *
+     * @param id - ID of the blog.
+     * @param sink - Receives the validator and the JSON of the blog.
+     * @throws NotFoundException - If the blog does not exist or is not ACTIVE.
+     * @throws IOException - As thrown by the sink.
+     */
+    @Override
+    public void sendBlogSnapshot(String id, SnapshotSink sink) throws IOException {
+        if (blogCache.writeTo(id, sink)) {
+            return;
+        }
+        final BlogSnapshot snapshot = getBlogSnapshot(id);
+        sink.accept(new BlogStamp(snapshot.getId(), snapshot.getUpdatedAt()), ByteBuffer.wrap(snapshot.getJson()));
+    }
+
+    /**
+     * Get the ID and modification time of a blog, to validate a conditional GET.
+     * Taken from the blog cache when present, otherwise from a projection that does not fetch the content.
+     *
+     * @param id - ID of the blog.
+     * @return BlogStamp - The validator of the blog.
+     * @throws NotFoundException - If the blog does not exist or is not ACTIVE.
+     */
+    @Override
+    public BlogStamp getBlogStamp(String id) {
+        final BlogStamp cached = blogCache.peekStamp(id);
+        if (cached != null) {
+            return cached;
+        }
+        return blogRepository.findStampById(id)
+                .orElseThrow(() -> new NotFoundException("Blog not found!"));
+    }
+
+    /**
+     * Get the validator of the full blog list: the number of active blogs and their latest modification.
+     * Both come from the status + updatedAt index.
+     *
+     * @return ListStamp - The validator of the list.
+     */
+    @Override
+    public ListStamp getListStamp() {
+        return new ListStamp(
+                blogRepository.countByObjStatus(ObjStatus.ACTIVE),
+                blogRepository.findFirstByObjStatusOrderByUpdatedAtDesc(ObjStatus.ACTIVE)
+                        .map(BlogStamp::updatedAt)
+                        .orElse(null)
+        );
+    }
+
     /**
      * Search blogs by title and paginate the results.
+     * Matching uses the text index over title and content, so the whole collection is never scanned.
+     * Concurrent identical searches share a single Mongo query.
      *
-     * @param title - Title to search.
+     * @param title - Words to search.
      * @param page - Page number (starting from 0).
      * @param size - Number of elements per page.
-     * @param sortBy - Field to sort by.
+     * @param sortBy - Field to sort by, or "relevance" to rank by text score.
      * @param sortDir - Sort direction (asc or desc).
+     * @param fields - Fields to read and return.
      * @return PageRes<BlogRes> - Pagination results as DTO.
      */
     @Override
     public PageRes<BlogRes> searchBlogsByTitle(String title, int page, int size,
-                                               String sortBy, String sortDir) {
-        final Sort sort = sortDir.equalsIgnoreCase(Sort.Direction.ASC.name()) ?
-                Sort.by(sortBy).ascending() :
-                Sort.by(sortBy).descending();
+                                               String sortBy, String sortDir, BlogFields fields) {
+        return searchCoalescer.execute(
+                SearchKey.of(title, page, size, sortBy, sortDir, fields.key()),
+                () -> searchByText(title, page, size, sortBy, sortDir, fields));
+    }
 
-        final Pageable pageable = PageRequest.of(page, size, sort);
+    private PageRes<BlogRes> searchByText(String title, int page, int size,
+                                          String sortBy, String sortDir, BlogFields fields) {
+        final boolean rankByRelevance = ranksByRelevance(sortBy);
+        final Pageable pageable = searchPageable(page, size, sortBy, sortDir);
 
         final Page<Blog> blogs = blogRepository
-                .findByTitleContaining(title, pageable);
+                .searchByText(title, pageable, rankByRelevance, fields);
 
         final Set<BlogRes> blogRes = blogs
                 .stream()
-                .filter(blog -> blog.getObjStatus().equals(ObjStatus.ACTIVE))
                 .map(BlogConverter::covertToDto)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
         return new PageRes<>(
                 blogRes,
@@ -88,24 +226,88 @@ public class BlogServiceImpl implements BlogService {
         );
     }
 
+    static boolean ranksByRelevance(String sortBy) {
+        return SORT_BY_RELEVANCE.equalsIgnoreCase(sortBy);
+    }
+
+    /**
+     * Page of a search; unsorted when ranking by relevance, since the text score then orders the results.
+     */
+    static Pageable searchPageable(int page, int size, String sortBy, String sortDir) {
+        final Sort sort = ranksByRelevance(sortBy) ? Sort.unsorted() :
+                sortDir.equalsIgnoreCase(Sort.Direction.ASC.name()) ?
+                        Sort.by(sortBy).ascending() :
+                        Sort.by(sortBy).descending();
+
+        return PageRequest.of(page, size, sort);
+    }
+
     /**
-     * Create a new blog.
+     * Scroll through blogs with keyset pagination, optionally filtered by title.
+     * Each page starts right after the position encoded in the cursor, so no documents are skipped
+     * and no count query is run; latency stays the same at any depth.
+     *
+     * @param title - Words to search, null to list all blogs.
+     * @param cursor - Continuation token from the previous page, null for the first page.
+     * @param size - Number of elements per page.
+     * @param sortBy - Field to sort by (title, createdAt or updatedAt), ignored when a cursor is given.
+     * @param sortDir - Sort direction (asc or desc), ignored when a cursor is given.
+     * @param fields - Fields to read and return; the sort field is always included.
+     * @return CursorPageRes<BlogRes> - The page as DTO with the token of the next page.
+     */
+    @Override
+    public CursorPageRes<BlogRes> scrollBlogs(String title, String cursor, int size,
+                                              String sortBy, String sortDir, BlogFields fields) {
+        if (size <= 0) {
+            throw new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(), "Size must be positive!");
+        }
+
+        final BlogCursor after = cursor == null ? null : CursorConverter.decode(cursor);
+        final String sortField = after == null ? sortBy : after.sortBy();
+        final Sort.Direction direction = after == null ?
+                Sort.Direction.fromOptionalString(sortDir).orElse(Sort.Direction.ASC) :
+                after.direction();
+        CursorConverter.requireSortField(sortField);
+
+        final List<Blog> blogs = blogRepository
+                .findPageAfter(title, sortField, direction, after, size + 1, fields.with(sortField));
+
+        final boolean last = blogs.size() <= size;
+        final List<Blog> page = last ? blogs : blogs.subList(0, size);
+
+        final String nextCursor = last ? null : CursorConverter.encode(
+                CursorConverter.cursorAfter(page.get(page.size() - 1), sortField, direction));
+
+        final List<BlogRes> blogRes = page
+                .stream()
+                .map(BlogConverter::covertToDto)
+                .toList();
+
+        return new CursorPageRes<>(blogRes, size, nextCursor, last);
+    }
+
+    /**
+     * Create a new blog, and store its snapshot for the reads that follow
+     * (with the outbox, in the background after an outbox entry committed with the blog).
      *
      * @param req - Object containing the information needed to create the blog.
      * @return BlogRes - The newly created blog information as a DTO.
      */
     @Override
-    @Transactional
     public BlogRes addBlog(BlogReq req) {
-        final Blog blog = BlogConverter.convertToEntity(req);
-
-        blogRepository.save(blog);
+        final Blog blog = blogOutboxService.write(() -> {
+            final Blog created = BlogConverter.convertToEntity(req);
+            blogRepository.save(created);
+            blogOutboxService.created(created);
+            return created;
+        });
 
         return BlogConverter.covertToDto(blog);
     }
 
     /**
      * Update information of a blog based on ID.
+     * The blog is overwritten in place by one atomic findAndModify, keeping its ID and creation date.
 
      * @param id - ID of the blog to update.
 
@@ -113,18 +315,36 @@ public class BlogServiceImpl implements BlogService {
 
      * @return BlogRes - Blog information after update as DTO.
 
+     * @throws ConflictException - If a version is given and the blog has changed since.
      */
     @Override
-    @Transactional
     public BlogRes updateBlog(String id, BlogReq req) {
-        deleteBlog(id);
-        final Blog updatedBlog = BlogConverter.convertToEntity(req);
+        return modified(id, req.getVersion(),
+                () -> blogRepository.replaceActive(id, req.getVersion(), BlogConverter.convertToEntity(req)));
+    }
 
-        return BlogConverter.covertToDto(blogRepository.save(updatedBlog));
+    /**
+     * Change only the given fields of a blog based on ID.
+     * The fields are $set by one atomic findAndModify, so other fields (e.g. content) are not rewritten
+     * and concurrent patches of different fields do not overwrite each other.
+     *
+     * @param id - ID of the blog to patch.
+     * @param req - Fields to change, with the version the client read if it wants the update checked.
+     * @return BlogRes - Blog information after the patch as DTO.
+     * @throws ConflictException - If a version is given and the blog has changed since.
+     */
+    @Override
+    public BlogRes patchBlog(String id, BlogPatchReq req) {
+        if (req.isEmpty()) {
+            throw new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(), "Nothing to update!");
+        }
+        return modified(id, req.getVersion(),
+                () -> blogRepository.patchActive(id, req.getVersion(), BlogConverter.convertPatchToEntity(req)));
     }
 
     /**
      * Update tags of a blog based on ID.
+     * Only the tags are $set, in one atomic findAndModify.
 
      * @param id - ID of the blog whose tags need to be updated.
 
@@ -134,24 +354,299 @@ public class BlogServiceImpl implements BlogService {
 
      */
     @Override
-    @Transactional
     public BlogRes updateTagsBlog(String id, Set<Tag> tags) {
-        final Blog blog = findBlogById(id);
-        blog.setTags(tags);
-        return BlogConverter.covertToDto(blogRepository.save(blog));
+        return modified(id, null,
+                () -> blogRepository.patchActive(id, null, Blog.builder().tags(tags).build()));
+    }
+
+    /**
+     * Add tags to a blog based on ID, keeping the tags it already has.
+     * Uses $addToSet, so concurrent additions are all kept.
+     *
+     * @param id - ID of the blog to tag.
+     * @param tags - Tags to add.
+     * @return BlogRes - Blog information after adding the tags as DTO.
+     */
+    @Override
+    public BlogRes addTagsBlog(String id, Set<Tag> tags) {
+        return modified(id, null, () -> blogRepository.addTagsActive(id, tags));
     }
 
     /**
      * Delete a blog based on ID (marked as DELETED).
+     * A single findAndModify matched on the ACTIVE status, which returns only the category and tags for the facet counts.
      *
      * @param id - ID of the blog to delete.
      */
     @Override
-    @Transactional
     public void deleteBlog(String id) {
-        final Blog blog = findBlogById(id);
-        blog.setObjStatus(ObjStatus.DELETED);
-        blogRepository.save(blog);
+        try {
+            blogOutboxService.write(() -> {
+                final Blog deleted = blogRepository.markDeleted(id, null)
+                        .orElseThrow(() -> new NotFoundException("Blog not found!"));
+                blogOutboxService.deleted(deleted);
+                return deleted;
+            });
+        } finally {
+            blogCache.invalidate(id);
+        }
+    }
+
+    /**
+     * Result of an atomic update: the updated blog, or why nothing matched.
+     * The snapshot of the updated blog is stored (or, with the outbox, marked outdated) before the cached one
+     * is dropped, so the next read does not get the old one back. It is dropped even if that store failed,
+     * since the blog itself may have been written.
+     */
+    private BlogRes modified(String id, Long version, Supplier<Optional<BlogChange>> change) {
+        final BlogChange updated;
+        try {
+            updated = blogOutboxService.write(() -> {
+                final BlogChange applied = change.get().orElseThrow(() -> missingOrConflict(id, version));
+                blogOutboxService.changed(applied.before(), applied.after());
+                return applied;
+            });
+        } finally {
+            blogCache.invalidate(id);
+        }
+        return BlogConverter.covertToDto(updated.after());
+    }
+
+    /**
+     * An update matched nothing: the blog either changed since the version was read, or does not exist.
+     * Only a failed versioned update costs this extra read.
+     */
+    private RuntimeException missingOrConflict(String id, Long version) {
+        if (version != null && blogRepository.findStampById(id).isPresent()) {
+            return new ConflictException("Blog was modified by another request!");
+        }
+        return new NotFoundException("Blog not found!");
+    }
+
+    /**
+     * Create many blogs at once.
+     * Items are validated one by one; the valid ones are inserted with unordered bulk writes of
+     * blog.bulk.chunk-size items, so an invalid or failed item does not stop the others.
+     * Their snapshots are stored on their first read rather than here, to keep an import to one write per blog.
+     *
+     * @param reqs - Blogs to create.
+     * @return BulkRes - The outcome of each item, in request order, with the ID of each created blog.
+     */
+    @Override
+    public BulkRes addBlogs(List<BlogReq> reqs) {
+        requireBulkSize(reqs);
+        final BulkItemRes[] results = new BulkItemRes[reqs.size()];
+        final int chunkSize = blogProperties.getBulk().getChunkSize();
+
+        for (int from = 0; from < reqs.size(); from += chunkSize) {
+            final List<Integer> indexes = new ArrayList<>();
+            final List<BlogReq> valid = new ArrayList<>();
+            for (int i = from; i < Math.min(from + chunkSize, reqs.size()); i++) {
+                final String violations = validate(reqs.get(i));
+                if (violations != null) {
+                    results[i] = new BulkItemRes(i, null, BulkItemStatus.INVALID, violations);
+                    continue;
+                }
+                indexes.add(i);
+                valid.add(reqs.get(i));
+            }
+
+            // With an ID and a version the entities are not new to auditing, which would leave createdAt unset
+            final LocalDateTime now = LocalDateTime.now();
+            final List<Blog> blogs = BlogConverter.convertToEntityList(valid);
+            blogs.forEach(blog -> {
+                blog.setId(new ObjectId().toHexString());
+                blog.setVersion(0L);
+                blog.setCreatedAt(now);
+                blog.setUpdatedAt(now);
+            });
+            final Map<Integer, String> failures = blogRepository.insertAll(blogs);
+
+            for (int j = 0; j < blogs.size(); j++) {
+                final int index = indexes.get(j);
+                final String error = failures.get(j);
+                results[index] = new BulkItemRes(index, blogs.get(j).getId(),
+                        error == null ? BulkItemStatus.CREATED : BulkItemStatus.FAILED, error);
+                if (error == null) {
+                    blogFacetService.created(blogs.get(j));
+                }
+            }
+        }
+        return BulkRes.of(Arrays.asList(results));
+    }
+
+    /**
+     * Update many blogs at once.
+     * Each chunk first reads which of its IDs are ACTIVE, with their category, tags and version, so unknown or deleted
+     * blogs are reported as NOT_FOUND, then overwrites the rest with one unordered bulk write, each at the version read.
+     * A blog written or deleted in between is left as it is and reported as CONFLICT or NOT_FOUND.
+     * The updated blogs' snapshots are outdated by markers at the version the update wrote, and rebuilt on their next
+     * read.
+     *
+     * @param reqs - IDs of the blogs to update with their new information.
+     * @return BulkRes - The outcome of each item, in request order.
+     */
+    @Override
+    public BulkRes updateBlogs(List<BlogBulkUpdateReq> reqs) {
+        requireBulkSize(reqs);
+        final BulkItemRes[] results = new BulkItemRes[reqs.size()];
+        final int chunkSize = blogProperties.getBulk().getChunkSize();
+
+        for (int from = 0; from < reqs.size(); from += chunkSize) {
+            final List<Integer> indexes = new ArrayList<>();
+            for (int i = from; i < Math.min(from + chunkSize, reqs.size()); i++) {
+                final String violations = validate(reqs.get(i));
+                if (violations != null) {
+                    results[i] = new BulkItemRes(i, reqs.get(i) == null ? null : reqs.get(i).getId(),
+                            BulkItemStatus.INVALID, violations);
+                    continue;
+                }
+                indexes.add(i);
+            }
+
+            final Map<String, Blog> active = blogRepository.findActiveByIds(
+                    indexes.stream().map(i -> reqs.get(i).getId()).toList());
+            final List<Blog> blogs = new ArrayList<>();
+            final List<Integer> found = new ArrayList<>();
+            for (int index : indexes) {
+                final BlogBulkUpdateReq req = reqs.get(index);
+                if (!active.containsKey(req.getId())) {
+                    results[index] = new BulkItemRes(index, req.getId(), BulkItemStatus.NOT_FOUND, "Blog not found!");
+                    continue;
+                }
+                final Blog blog = BlogConverter.convertToEntity(req.getBlog());
+                blog.setId(req.getId());
+                blog.setVersion(active.get(req.getId()).getVersion());
+                blogs.add(blog);
+                found.add(index);
+            }
+
+            final BulkUpdateResult updated = blogRepository.updateAllActive(blogs);
+            // Only a missed update costs this extra read, to tell a blog written since from a deleted one
+            final Set<String> stillActive = updated.missed().isEmpty() ? Set.of() :
+                    blogRepository.findActiveByIds(updated.missed().stream().map(j -> blogs.get(j).getId()).toList())
+                            .keySet();
+            final Map<String, Long> versions = new HashMap<>();
+
+            for (int j = 0; j < blogs.size(); j++) {
+                final int index = found.get(j);
+                final Blog blog = blogs.get(j);
+                if (updated.failures().containsKey(j)) {
+                    results[index] = new BulkItemRes(index, blog.getId(), BulkItemStatus.FAILED,
+                            updated.failures().get(j));
+                } else if (updated.missed().contains(j)) {
+                    results[index] = stillActive.contains(blog.getId()) ?
+                            new BulkItemRes(index, blog.getId(), BulkItemStatus.CONFLICT,
+                                    "Blog was modified by another request!") :
+                            new BulkItemRes(index, blog.getId(), BulkItemStatus.NOT_FOUND, "Blog not found!");
+                } else {
+                    results[index] = new BulkItemRes(index, blog.getId(), BulkItemStatus.UPDATED, null);
+                    blogFacetService.changed(active.get(blog.getId()), blog);
+                    versions.put(blog.getId(), updated.versions().get(j));
+                }
+            }
+            try {
+                blogSnapshotService.changed(versions);
+            } finally {
+                versions.keySet().forEach(blogCache::invalidate);
+            }
+        }
+        return BulkRes.of(Arrays.asList(results));
+    }
+
+    /**
+     * Delete many blogs at once (marked as DELETED).
+     * Each chunk reads which of its IDs are ACTIVE, with their category, tags and version, then marks them DELETED
+     * with one unordered bulk write, each at the version read. A blog written or deleted in between, e.g. by a
+     * concurrent delete, is left as it is and reported as CONFLICT or NOT_FOUND, so only one request counts it.
+     * An ID given more than once is deleted for its first occurrence; the others are reported as FAILED, wherever
+     * the chunks fall.
+     *
+     * @param ids - IDs of the blogs to delete.
+     * @return BulkRes - The outcome of each item, in request order.
+     */
+    @Override
+    public BulkRes deleteBlogs(List<String> ids) {
+        requireBulkSize(ids);
+        final List<BulkItemRes> results = new ArrayList<>(ids.size());
+        final int chunkSize = blogProperties.getBulk().getChunkSize();
+        final Set<String> seen = new HashSet<>();
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            final List<String> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            final boolean[] repeated = new boolean[chunk.size()];
+            final List<String> firsts = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                repeated[i] = !seen.add(chunk.get(i));
+                if (!repeated[i]) {
+                    firsts.add(chunk.get(i));
+                }
+            }
+            final List<Blog> blogs = List.copyOf(blogRepository.findActiveByIds(firsts).values());
+            final BulkUpdateResult deleted = blogRepository.markAllDeleted(blogs);
+            // Only a missed delete costs this extra read, to tell a blog written since from a deleted one
+            final Set<String> stillActive = deleted.missed().isEmpty() ? Set.of() :
+                    blogRepository.findActiveByIds(deleted.missed().stream().map(j -> blogs.get(j).getId()).toList())
+                            .keySet();
+
+            final Map<String, Integer> positions = new HashMap<>();
+            for (int j = 0; j < blogs.size(); j++) {
+                positions.put(blogs.get(j).getId(), j);
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                final String id = chunk.get(i);
+                final Integer j = positions.get(id);
+                if (repeated[i]) {
+                    results.add(new BulkItemRes(from + i, id, BulkItemStatus.FAILED, "Duplicate ID in the request!"));
+                } else if (j != null && deleted.failures().containsKey(j)) {
+                    results.add(new BulkItemRes(from + i, id, BulkItemStatus.FAILED, deleted.failures().get(j)));
+                } else if (j != null && !deleted.missed().contains(j)) {
+                    results.add(new BulkItemRes(from + i, id, BulkItemStatus.DELETED, null));
+                } else if (stillActive.contains(id)) {
+                    results.add(new BulkItemRes(from + i, id, BulkItemStatus.CONFLICT,
+                            "Blog was modified by another request!"));
+                } else {
+                    results.add(new BulkItemRes(from + i, id, BulkItemStatus.NOT_FOUND, "Blog not found!"));
+                }
+            }
+
+            final List<Blog> removed = deleted.versions().keySet().stream().map(blogs::get).toList();
+            removed.forEach(blogFacetService::deleted);
+            final List<String> removedIds = removed.stream().map(Blog::getId).toList();
+            try {
+                blogSnapshotService.deleted(removedIds);
+            } finally {
+                removedIds.forEach(blogCache::invalidate);
+            }
+        }
+        return BulkRes.of(results);
+    }
+
+    private void requireBulkSize(List<?> items) {
+        final int maxItems = blogProperties.getBulk().getMaxItems();
+        if (items.size() > maxItems) {
+            throw new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(),
+                    "A bulk request accepts at most " + maxItems + " items!");
+        }
+    }
+
+    /**
+     * Bean validation of one bulk item, since @Valid on the request body would reject the whole batch.
+     *
+     * @return String - The violated constraints joined by ", ", or null when the item is valid.
+     */
+    private String validate(Object item) {
+        if (item == null) {
+            return "Item is required!";
+        }
+        final Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
     }
 
     /**
@@ -0,0 +1,183 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.bloggingplatformapi.converter.BlogConverter;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.exception.NotFoundException;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogOutboxEntry;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.model.enums.BlogOperation;
+import com.test.bloggingplatformapi.model.enums.ObjStatus;
+import com.test.bloggingplatformapi.model.event.BlogMutationsEvent;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import com.test.bloggingplatformapi.repository.BlogSnapshotRepository;
+import com.test.bloggingplatformapi.service.BlogSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BlogSnapshotServiceImpl implements BlogSnapshotService {
+
+    private final BlogSnapshotRepository blogSnapshotRepository;
+    private final BlogRepository blogRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Get the stored JSON of a blog, one read by _id with nothing to map but a byte array.
+     * A blog without a snapshot (created in bulk, or changed by a bulk update) is read, serialized and stored,
+     * so only its first read pays for it.
+     *
+     * @param id - ID of the blog.
+     * @return BlogSnapshot - The snapshot of the blog.
+     * @throws NotFoundException - If the blog does not exist or is not ACTIVE.
+     */
+    @Override
+    public BlogSnapshot getSnapshot(String id) {
+        final Optional<BlogSnapshot> stored = blogSnapshotRepository.findById(id);
+        if (stored.isPresent() && !stored.get().isMarker()) {
+            return stored.get();
+        }
+        if (stored.isPresent() && stored.get().getVersion() == BlogSnapshot.DELETED) {
+            throw new NotFoundException("Blog not found!");
+        }
+
+        final BlogSnapshot snapshot = snapshot(blogRepository.findBlogActiveById(id)
+                .orElseThrow(() -> new NotFoundException("Blog not found!")));
+        // Only a marker or nothing is stored, so a failure just means the next read rebuilds it again
+        try {
+            blogSnapshotRepository.saveAllIfNewer(List.of(snapshot));
+        } catch (DataAccessException ex) {
+            log.warn("Could not store the snapshot of blog {}, it is rebuilt on its next read: {}",
+                    id, ex.getMessage());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Serialize a blog as written and store it, unless a later version is already stored.
+     *
+     * @param blog - The blog as it is now stored.
+     * @return BlogSnapshot - Its snapshot.
+     * @throws DataAccessException - If neither the snapshot nor a marker in its place could be stored.
+     */
+    @Override
+    public BlogSnapshot materialize(Blog blog) {
+        final BlogSnapshot snapshot = snapshot(blog);
+        store(List.of(snapshot));
+        return snapshot;
+    }
+
+    /**
+     * Blogs changed without their new content at hand (bulk updates): their snapshots are replaced by markers,
+     * and rebuilt on their next read.
+     *
+     * @param versions - Version each blog reached, by ID.
+     */
+    @Override
+    public void changed(Map<String, Long> versions) {
+        store(versions.entrySet()
+                .stream()
+                .map(version -> BlogSnapshot.marker(version.getKey(), version.getValue()))
+                .toList());
+    }
+
+    /**
+     * Deleted blogs: their snapshots are replaced by markers no snapshot can outrank, so a read that was rebuilding
+     * one concurrently cannot bring it back.
+     *
+     * @param ids - IDs of the deleted blogs.
+     */
+    @Override
+    public void deleted(Collection<String> ids) {
+        store(ids.stream()
+                .map(id -> BlogSnapshot.marker(id, BlogSnapshot.DELETED))
+                .toList());
+    }
+
+    /**
+     * Outbox entries: the blogs created or updated are read back in one query and their snapshots stored, so their
+     * next read does not have to rebuild them. Deletes were fully handled by their marker in the write's transaction.
+     * A blog changed again since the entry was written gets its newer snapshot, which is at worst stored early.
+     *
+     * @param event - A batch of outbox entries.
+     */
+    @EventListener
+    @Order(1)
+    public void onBlogMutations(BlogMutationsEvent event) {
+        final Set<String> ids = event.entries()
+                .stream()
+                .filter(entry -> entry.getOperation() != BlogOperation.DELETED)
+                .map(BlogOutboxEntry::getBlogId)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return;
+        }
+        final List<BlogSnapshot> snapshots = new ArrayList<>(ids.size());
+        blogRepository.findAllById(ids).forEach(blog -> {
+            if (blog.getObjStatus() == ObjStatus.ACTIVE) {
+                snapshots.add(snapshot(blog));
+            }
+        });
+        blogSnapshotRepository.saveAllIfNewer(snapshots);
+    }
+
+    /**
+     * The blogs were already written, so their previous snapshots must not stay: when the snapshots cannot be stored,
+     * markers at the same versions are tried instead, which are smaller and leave the rebuild to the next read.
+     * If those fail too the error is thrown, rather than serving the previous snapshots until the next write.
+     */
+    private void store(List<BlogSnapshot> snapshots) {
+        try {
+            blogSnapshotRepository.saveAllIfNewer(snapshots);
+        } catch (DataAccessException ex) {
+            log.warn("Could not store the snapshots of blogs {}, storing markers instead: {}",
+                    snapshots.stream().map(BlogSnapshot::getId).toList(), ex.getMessage());
+            try {
+                blogSnapshotRepository.saveAllIfNewer(snapshots.stream()
+                        .map(snapshot -> BlogSnapshot.marker(snapshot.getId(), snapshot.getVersion()))
+                        .toList());
+            } catch (DataAccessException fallback) {
+                ex.addSuppressed(fallback);
+                throw ex;
+            }
+        }
+    }
+
+    private BlogSnapshot snapshot(Blog blog) {
+        final BlogRes blogRes = BlogConverter.covertToDto(blog)
+                .withCreatedAt(stored(blog.getCreatedAt()))
+                .withUpdatedAt(stored(blog.getUpdatedAt()));
+        try {
+            return new BlogSnapshot(blogRes.id(), blog.getVersion() == null ? -1 : blog.getVersion(),
+                    blogRes.updatedAt(), objectMapper.writeValueAsBytes(blogRes));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize blog " + blog.getId(), ex);
+        }
+    }
+
+    /**
+     * Dates at the millisecond precision Mongo stores, so the snapshot of a blog just created by save()
+     * is the same as one rebuilt from Mongo later.
+     */
+    private static LocalDateTime stored(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.truncatedTo(ChronoUnit.MILLIS);
+    }
+}
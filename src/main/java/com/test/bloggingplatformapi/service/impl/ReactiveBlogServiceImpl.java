@@ -0,0 +1,191 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.converter.BlogConverter;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.PageRes;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
+import com.test.bloggingplatformapi.dtos.res.BlogReq;
+import com.test.bloggingplatformapi.exception.BadRequestException;
+import com.test.bloggingplatformapi.exception.ConflictException;
+import com.test.bloggingplatformapi.exception.ErrorCode;
+import com.test.bloggingplatformapi.exception.NotFoundException;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.repository.ReactiveBlogRepository;
+import com.test.bloggingplatformapi.service.ReactiveBlogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking implementation of the blog API for the "reactive" profile.
+ * Reads go straight to Mongo: the blog cache and request coalescing are only wired into the servlet stack.
+ */
+@Profile("reactive")
+@RequiredArgsConstructor
+@Service
+public class ReactiveBlogServiceImpl implements ReactiveBlogService {
+
+    private final ReactiveBlogRepository blogRepository;
+    private final BlogProperties blogProperties;
+
+    /**
+     * Stream all active blogs; the cursor is read only as fast as the client consumes the response.
+     *
+     * @param fields - Fields to read and return.
+     * @return Flux<BlogRes> - The blogs as DTO.
+     */
+    @Override
+    public Flux<BlogRes> streamAllBlogs(BlogFields fields) {
+        return blogRepository.streamAllActive(blogProperties.getStream().getBatchSize(), fields)
+                .map(BlogConverter::covertToDto);
+    }
+
+    /**
+     * Get the details of a blog based on ID.
+     *
+     * @param id - ID of the blog to get information from.
+     * @return Mono<BlogRes> - The details of the blog as a DTO, or NotFoundException.
+     */
+    @Override
+    public Mono<BlogRes> getBlogById(String id) {
+        return blogRepository.findBlogActiveById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Blog not found!")))
+                .map(BlogConverter::covertToDto);
+    }
+
+    /**
+     * Search blogs by title and paginate the results; the page and the count query run concurrently.
+     *
+     * @param title - Words to search.
+     * @param page - Page number (starting from 0).
+     * @param size - Number of elements per page.
+     * @param sortBy - Field to sort by, or "relevance" to rank by text score.
+     * @param sortDir - Sort direction (asc or desc).
+     * @param fields - Fields to read and return.
+     * @return Mono<PageRes<BlogRes>> - Pagination results as DTO.
+     */
+    @Override
+    public Mono<PageRes<BlogRes>> searchBlogsByTitle(String title, int page, int size,
+                                                     String sortBy, String sortDir, BlogFields fields) {
+        final Pageable pageable = BlogServiceImpl.searchPageable(page, size, sortBy, sortDir);
+
+        return Mono.zip(
+                        blogRepository.searchByText(title, pageable, BlogServiceImpl.ranksByRelevance(sortBy), fields)
+                                .collectList(),
+                        blogRepository.countByText(title))
+                .map(result -> {
+                    final List<Blog> blogs = result.getT1();
+                    final Page<Blog> blogPage = PageableExecutionUtils.getPage(blogs, pageable, result::getT2);
+                    return new PageRes<>(
+                            blogs.stream()
+                                    .map(BlogConverter::covertToDto)
+                                    .collect(Collectors.toCollection(LinkedHashSet::new)),
+                            blogPage.getNumber(),
+                            blogPage.getSize(),
+                            blogPage.getTotalElements(),
+                            blogPage.getTotalPages(),
+                            blogPage.isLast());
+                });
+    }
+
+    /**
+     * Stream one page of search results without totals, element by element.
+     *
+     * @param title - Words to search.
+     * @param page - Page number (starting from 0).
+     * @param size - Number of elements per page.
+     * @param sortBy - Field to sort by, or "relevance" to rank by text score.
+     * @param sortDir - Sort direction (asc or desc).
+     * @param fields - Fields to read and return.
+     * @return Flux<BlogRes> - The blogs of the page as DTO.
+     */
+    @Override
+    public Flux<BlogRes> streamSearchBlogsByTitle(String title, int page, int size,
+                                                  String sortBy, String sortDir, BlogFields fields) {
+        return blogRepository.searchByText(title, BlogServiceImpl.searchPageable(page, size, sortBy, sortDir),
+                        BlogServiceImpl.ranksByRelevance(sortBy), fields)
+                .map(BlogConverter::covertToDto);
+    }
+
+    /**
+     * Create a new blog.
+     *
+     * @param req - Object containing the information needed to create the blog.
+     * @return Mono<BlogRes> - The newly created blog information as a DTO.
+     */
+    @Override
+    public Mono<BlogRes> addBlog(BlogReq req) {
+        return blogRepository.save(BlogConverter.convertToEntity(req))
+                .map(BlogConverter::covertToDto);
+    }
+
+    /**
+     * Update information of a blog in place based on ID.
+     *
+     * @param id - ID of the blog to update.
+     * @param req - Object containing information to update.
+     * @return Mono<BlogRes> - Blog information after update as DTO.
+     */
+    @Override
+    public Mono<BlogRes> updateBlog(String id, BlogReq req) {
+        return modified(id, req.getVersion(),
+                blogRepository.replaceActive(id, req.getVersion(), BlogConverter.convertToEntity(req)));
+    }
+
+    /**
+     * Change only the given fields of a blog based on ID.
+     *
+     * @param id - ID of the blog to patch.
+     * @param req - Fields to change, with the version the client read if it wants the update checked.
+     * @return Mono<BlogRes> - Blog information after the patch as DTO.
+     */
+    @Override
+    public Mono<BlogRes> patchBlog(String id, BlogPatchReq req) {
+        if (req.isEmpty()) {
+            return Mono.error(new BadRequestException(ErrorCode.ILLEGAL_ARGUMENT.getErrCode(), "Nothing to update!"));
+        }
+        return modified(id, req.getVersion(),
+                blogRepository.patchActive(id, req.getVersion(), BlogConverter.convertPatchToEntity(req)));
+    }
+
+    /**
+     * Delete a blog based on ID (marked as DELETED).
+     *
+     * @param id - ID of the blog to delete.
+     * @return Mono<Void> - Completes when the blog is deleted, or NotFoundException.
+     */
+    @Override
+    public Mono<Void> deleteBlog(String id) {
+        return blogRepository.markDeleted(id, null)
+                .flatMap(deleted -> deleted ? Mono.<Void>empty() :
+                        Mono.error(new NotFoundException("Blog not found!")));
+    }
+
+    private Mono<BlogRes> modified(String id, Long version, Mono<Blog> blog) {
+        return blog
+                .switchIfEmpty(Mono.defer(() -> missingOrConflict(id, version)))
+                .map(BlogConverter::covertToDto);
+    }
+
+    private Mono<Blog> missingOrConflict(String id, Long version) {
+        if (version == null) {
+            return Mono.error(new NotFoundException("Blog not found!"));
+        }
+        return blogRepository.findBlogActiveById(id)
+                .hasElement()
+                .flatMap(exists -> Mono.error(exists ?
+                        new ConflictException("Blog was modified by another request!") :
+                        new NotFoundException("Blog not found!")));
+    }
+}
@@ -0,0 +1,26 @@
+package com.test.bloggingplatformapi;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Base of the tests that need the whole application against a database: an in-memory Mongo server,
+ * shared by every test class, so the application context is built once.
+ * It has no text index, explain, change stream or transaction; the index check and the profiler are turned off.
+ */
+@SpringBootTest(properties = {"blog.index.mode=off", "blog.profiler.enabled=false"})
+public abstract class MongoServerTest {
+    private static final MongoServer SERVER = new MongoServer(new MemoryBackend());
+    private static final InetSocketAddress ADDRESS = SERVER.bind();
+
+    @DynamicPropertySource
+    static void mongoUri(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri",
+                () -> "mongodb://" + ADDRESS.getHostString() + ":" + ADDRESS.getPort() + "/blog");
+    }
+}
@@ -0,0 +1,98 @@
+package com.test.bloggingplatformapi.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapStoreTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Test
+    void storesReplacesAndRemovesThroughTableResizes() throws IOException {
+        final OffHeapStore store = new OffHeapStore(1 << 20, 1 << 16, TTL);
+        for (int i = 0; i < 5000; i++) {
+            assertThat(store.put("blog-" + i, i, 1000L + i, payload("v1-" + i), () -> true)).isTrue();
+        }
+        for (int i = 0; i < 5000; i += 2) {
+            store.remove("blog-" + i);
+        }
+        store.put("blog-1", 2, 2000L, payload("v2-1"), () -> true);
+
+        assertThat(store.size()).isEqualTo(2500);
+        assertThat(read(store, "blog-0")).isNull();
+        assertThat(read(store, "blog-1")).isEqualTo("2:2000:v2-1");
+        for (int i = 3; i < 5000; i += 2) {
+            assertThat(read(store, "blog-" + i)).isEqualTo(i + ":" + (1000L + i) + ":v1-" + i);
+        }
+    }
+
+    @Test
+    void reusesTheFirstSegmentNotReadSinceTheHandPassed() throws IOException {
+        final OffHeapStore store = new OffHeapStore(3 * 256, 256, TTL);
+        for (String id : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            assertThat(store.put(id, 1, 0, new byte[60], () -> true)).isTrue();
+        }
+        assertThat(read(store, "a")).isNotNull();
+
+        assertThat(store.put("g", 1, 0, new byte[60], () -> true)).isTrue();
+
+        assertThat(read(store, "a")).isNotNull();
+        assertThat(read(store, "b")).isNotNull();
+        assertThat(read(store, "c")).isNull();
+        assertThat(read(store, "d")).isNull();
+        assertThat(read(store, "g")).isNotNull();
+        assertThat(store.evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void neverReusesASegmentBeingRead() throws IOException {
+        final OffHeapStore store = new OffHeapStore(256, 256, TTL);
+        store.put("a", 1, 0, payload("first"), () -> true);
+        store.put("b", 1, 0, new byte[100], () -> true);
+
+        final Boolean storedWhilePinned = store.read("a", (version, updatedAt, json) -> {
+            final boolean stored = store.put("c", 1, 0, new byte[100], () -> true);
+            assertThat(StandardCharsets.UTF_8.decode(json).toString()).isEqualTo("first");
+            return stored;
+        }, false);
+
+        assertThat(storedWhilePinned).isFalse();
+        assertThat(store.put("c", 1, 0, new byte[100], () -> true)).isTrue();
+        assertThat(read(store, "a")).isNull();
+    }
+
+    @Test
+    void skipsPayloadsLargerThanASegmentAndInvalidPuts() throws IOException {
+        final OffHeapStore store = new OffHeapStore(1024, 256, TTL);
+
+        assertThat(store.put("big", 1, 0, new byte[256], () -> true)).isFalse();
+        assertThat(store.put("stale", 1, 0, new byte[10], () -> false)).isFalse();
+        assertThat(read(store, "big")).isNull();
+        assertThat(read(store, "stale")).isNull();
+    }
+
+    @Test
+    void expiresRecordsAfterTheirTimeToLive() throws IOException {
+        final OffHeapStore store = new OffHeapStore(1024, 256, Duration.ZERO);
+        store.put("a", 1, 0, payload("x"), () -> true);
+
+        assertThat(read(store, "a")).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    private static byte[] payload(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String read(OffHeapStore store, String id) throws IOException {
+        return store.read(id, (version, updatedAt, json) -> {
+            final byte[] bytes = new byte[json.remaining()];
+            json.get(bytes);
+            return version + ":" + updatedAt + ":" + new String(bytes, StandardCharsets.UTF_8);
+        }, true);
+    }
+}
@@ -0,0 +1,77 @@
+package com.test.bloggingplatformapi.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    @Test
+    void concurrentIdenticalLookupsRunLoaderOnce() throws Exception {
+        final RequestCoalescer<String, Integer> coalescer = new RequestCoalescer<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loaderStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final int callers = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> coalescer.execute("post", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return 42;
+            })));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> coalescer.execute("post", () -> {
+                    loads.incrementAndGet();
+                    return -1;
+                })));
+            }
+            while (coalescer.coalescedCount() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(coalescer.executedCount()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedLookupIsNotRetained() {
+        final RequestCoalescer<String, Integer> coalescer = new RequestCoalescer<>();
+
+        assertThatThrownBy(() -> coalescer.execute("post", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.execute("post", () -> 7)).isEqualTo(7);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
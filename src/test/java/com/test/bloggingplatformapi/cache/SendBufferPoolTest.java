@@ -0,0 +1,35 @@
+package com.test.bloggingplatformapi.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SendBufferPoolTest {
+
+    @Test
+    void reusesAReleasedBufferLargeEnough() {
+        final SendBufferPool pool = new SendBufferPool(2);
+
+        final byte[] first = pool.acquire(20_000);
+        pool.release(first);
+
+        assertThat(first.length).isEqualTo(32 * 1024);
+        assertThat(pool.acquire(30_000)).isSameAs(first);
+        assertThat(pool.allocationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void growsABufferTooSmallAndAllocatesWhenEmpty() {
+        final SendBufferPool pool = new SendBufferPool(1);
+        pool.release(pool.acquire(10_000));
+
+        final byte[] grown = pool.acquire(100_000);
+        final byte[] extra = pool.acquire(10_000);
+        pool.release(grown);
+        pool.release(extra);
+
+        assertThat(grown.length).isEqualTo(128 * 1024);
+        assertThat(pool.allocationCount()).isEqualTo(3);
+        assertThat(pool.acquire(100_000)).isSameAs(grown);
+    }
+}
@@ -0,0 +1,200 @@
+package com.test.bloggingplatformapi.controller;
+
+import com.test.bloggingplatformapi.MongoServerTest;
+import com.test.bloggingplatformapi.cache.BlogCache;
+import com.test.bloggingplatformapi.cache.RequestCoalescer;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.converter.BlogFieldsConverter;
+import com.test.bloggingplatformapi.converter.BlogStreamWriter;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
+import com.test.bloggingplatformapi.dtos.res.BlogReq;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import com.test.bloggingplatformapi.service.BlogFacetService;
+import com.test.bloggingplatformapi.service.BlogOutboxService;
+import com.test.bloggingplatformapi.service.BlogService;
+import com.test.bloggingplatformapi.service.BlogSnapshotService;
+import com.test.bloggingplatformapi.service.impl.BlogServiceImpl;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class BlogControllerTest extends MongoServerTest {
+    private static final String BLOGS = "/api/v1/blogs";
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private BlogProperties blogProperties;
+
+    @Autowired
+    private BlogCache blogCache;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private BlogFacetService blogFacetService;
+
+    @Autowired
+    private BlogSnapshotService blogSnapshotService;
+
+    @Autowired
+    private BlogOutboxService blogOutboxService;
+
+    @Autowired
+    private BlogStreamWriter blogStreamWriter;
+
+    @Autowired
+    private SnapshotResponseWriter snapshotResponseWriter;
+
+    private MockMvc mvc;
+
+    private String searched;
+
+    @BeforeEach
+    void setUp() {
+        // The in-memory server has no text index: the search finds the blog under test, read as it is now
+        final BlogRepository searching = mock(BlogRepository.class, delegatesTo(blogRepository));
+        doAnswer(invocation -> {
+            final Pageable pageable = invocation.getArgument(1);
+            return new PageImpl<>(List.of(blogRepository.findById(searched).orElseThrow()), pageable, 1);
+        }).when(searching).searchByText(anyString(), any(), anyBoolean(), any());
+        final BlogService service = new BlogServiceImpl(searching, blogProperties, blogCache, new RequestCoalescer<>(),
+                validator, blogFacetService, blogSnapshotService, blogOutboxService);
+        mvc = MockMvcBuilders
+                .standaloneSetup(new BlogController(service, blogStreamWriter, snapshotResponseWriter, blogFacetService))
+                .build();
+    }
+
+    @Test
+    void getBlogByIdAnswersAMatchingIfNoneMatchWith304WithoutABody() throws Exception {
+        final BlogRes blog = blogService.addBlog(req("conditional"));
+
+        final MockHttpServletResponse first = fetch(BLOGS + "/" + blog.id(), null);
+        final String eTag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(eTag).isEqualTo(BlogStamp.of(blog).eTag());
+        assertThat(first.getContentAsString()).contains("conditional");
+
+        final MockHttpServletResponse second = fetch(BLOGS + "/" + blog.id(), eTag);
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+    }
+
+    @Test
+    void getBlogByIdChangesItsETagAfterAWrite() throws Exception {
+        final BlogRes blog = blogService.addBlog(req("before"));
+        final String eTag = fetch(BLOGS + "/" + blog.id(), null).getHeader(HttpHeaders.ETAG);
+
+        awaitNextMillisecond();
+        blogService.patchBlog(blog.id(), BlogPatchReq.builder().title("after").build());
+
+        final MockHttpServletResponse response = fetch(BLOGS + "/" + blog.id(), eTag);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(response.getContentAsString()).contains("after");
+    }
+
+    @Test
+    void searchAnswersAMatchingIfNoneMatchWith304PerSparseFieldset() throws Exception {
+        searched = blogService.addBlog(req("searched")).id();
+        final String summary = BLOGS + "/search?title=searched&fields=title,category";
+        final String full = BLOGS + "/search?title=searched";
+
+        final MockHttpServletResponse first = fetch(summary, null);
+        final String eTag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(eTag).startsWith("W/\"");
+
+        final MockHttpServletResponse second = fetch(summary, eTag);
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+
+        // Another fieldset is another representation of the same page
+        final MockHttpServletResponse other = fetch(full, eTag);
+        assertThat(other.getStatus()).isEqualTo(200);
+        assertThat(other.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void searchChangesItsETagAfterAWrite() throws Exception {
+        searched = blogService.addBlog(req("searched")).id();
+        final String summary = BLOGS + "/search?title=searched&fields=title,category";
+        final String eTag = fetch(summary, null).getHeader(HttpHeaders.ETAG);
+
+        awaitNextMillisecond();
+        blogService.updateTagsBlog(searched, Set.of(Tag.PROGRAMMING));
+
+        final MockHttpServletResponse response = fetch(summary, eTag);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void getAllBlogsAnswersAMatchingIfNoneMatchWith304UntilABlogIsAdded() throws Exception {
+        blogService.addBlog(req("listed"));
+        final String summary = BLOGS + "?fields=summary";
+        final String eTag = blogService.getListStamp().eTag("json;" + BlogFieldsConverter.parse("summary", null).key());
+
+        final MockHttpServletResponse notModified = fetch(summary, eTag);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+        assertThat(fetch(BLOGS, eTag).getStatus()).isEqualTo(200);
+
+        blogService.addBlog(req("added"));
+
+        assertThat(fetch(summary, eTag).getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse fetch(String uri, String ifNoneMatch) throws Exception {
+        return mvc.perform(ifNoneMatch == null
+                        ? get(uri)
+                        : get(uri).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                .andReturn()
+                .getResponse();
+    }
+
+    /**
+     * ETags resolve updatedAt to the millisecond.
+     */
+    private static void awaitNextMillisecond() throws InterruptedException {
+        Thread.sleep(2);
+    }
+
+    private static BlogReq req(String title) {
+        return BlogReq.builder()
+                .title(title)
+                .content("content of " + title)
+                .category(Category.TECHNICAL)
+                .tags(Set.of(Tag.TECH))
+                .build();
+    }
+}
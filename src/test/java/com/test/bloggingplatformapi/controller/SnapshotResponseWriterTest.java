@@ -0,0 +1,59 @@
+package com.test.bloggingplatformapi.controller;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.model.projection.BlogStamp;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotResponseWriterTest {
+    private static final BlogStamp STAMP = new BlogStamp("id", LocalDateTime.of(2024, 3, 1, 10, 15));
+
+    private final SnapshotResponseWriter writer = new SnapshotResponseWriter(new BlogProperties());
+
+    @Test
+    void aSnapshotLargerThanTheResponseBufferIsSentAfterTheCacheMemoryIsReleased() throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final byte[] json = json(response.getBufferSize() * 3);
+
+        writer.send(response, sink -> {
+            final ByteBuffer cached = ByteBuffer.allocateDirect(json.length).put(json).flip();
+            sink.accept(STAMP, cached.asReadOnlyBuffer());
+            // Released: the cache may reuse the memory right away
+            assertThat(response.getContentAsByteArray()).isEmpty();
+            cached.clear().put(new byte[json.length]);
+        });
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(json);
+        assertThat(response.getBufferSize()).isEqualTo(new MockHttpServletResponse().getBufferSize());
+        assertThat(response.getContentLength()).isEqualTo(json.length);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(STAMP.eTag());
+    }
+
+    @Test
+    void aSnapshotThatFitsTheResponseBufferIsWrittenStraightAway() throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final byte[] json = json(100);
+
+        writer.send(response, sink -> {
+            sink.accept(STAMP, ByteBuffer.allocateDirect(json.length).put(json).flip());
+            assertThat(response.getContentAsByteArray()).isEqualTo(json);
+        });
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(json);
+    }
+
+    private static byte[] json(int length) {
+        final byte[] json = new byte[length];
+        Arrays.fill(json, (byte) 'a');
+        json[0] = '"';
+        json[length - 1] = '"';
+        return json;
+    }
+}
@@ -0,0 +1,75 @@
+package com.test.bloggingplatformapi.converter;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlogContentConverterTest {
+    private static final String LONG_CONTENT = "Deflate likes repeated blog content. ".repeat(200);
+
+    private final BlogProperties blogProperties = new BlogProperties();
+    private final BlogContentConverter converter = new BlogContentConverter(blogProperties);
+
+    @Test
+    void contentAboveMinSizeIsDeflatedAndInflatedBack() {
+        blogProperties.getContentCompression().setEnabled(true);
+
+        final Object stored = converter.write(LONG_CONTENT, null);
+
+        assertThat(stored).isInstanceOf(Binary.class);
+        final Binary binary = (Binary) stored;
+        assertThat(binary.getType()).isEqualTo(BlogContentConverter.DEFLATE_SUBTYPE);
+        assertThat(binary.getData().length).isLessThan(LONG_CONTENT.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(converter.read(stored, null)).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    void contentBelowMinSizeStaysAString() {
+        blogProperties.getContentCompression().setEnabled(true);
+        final String content = "é".repeat(1000);
+
+        assertThat(converter.write(content, null)).isEqualTo(content);
+    }
+
+    @Test
+    void contentIsAStringWhenCompressionIsOff() {
+        assertThat(converter.write(LONG_CONTENT, null)).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    void readAcceptsStringsAndBinariesSideBySide() {
+        final byte[] compressed = BlogContentConverter.deflate(LONG_CONTENT.getBytes(StandardCharsets.UTF_8), 9);
+
+        assertThat(converter.read("plain content", null)).isEqualTo("plain content");
+        assertThat(converter.read(new Binary(BlogContentConverter.DEFLATE_SUBTYPE, compressed), null)).isEqualTo(LONG_CONTENT);
+        assertThat(converter.read(compressed, null)).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    void truncatedContentIsAnIOError() {
+        final byte[] compressed = BlogContentConverter.deflate(LONG_CONTENT.getBytes(StandardCharsets.UTF_8), -1);
+        final byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        assertThatThrownBy(() -> BlogContentConverter.inflate(truncated))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Truncated");
+        assertThatThrownBy(() -> BlogContentConverter.inflate(new byte[0]))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void corruptContentIsAnIOError() {
+        final byte[] corrupt = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+
+        assertThatThrownBy(() -> converter.read(new Binary(BlogContentConverter.DEFLATE_SUBTYPE, corrupt), null))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Corrupt");
+    }
+}
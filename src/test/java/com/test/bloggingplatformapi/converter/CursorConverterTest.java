@@ -0,0 +1,54 @@
+package com.test.bloggingplatformapi.converter;
+
+import com.test.bloggingplatformapi.exception.BadRequestException;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.pagination.BlogCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorConverterTest {
+
+    @Test
+    void roundTripsDateCursor() {
+        final Blog blog = Blog.builder()
+                .id("65f1c0ffee0000000000abcd")
+                .title("Keyset | pagination")
+                .createdAt(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_000_000))
+                .build();
+
+        final BlogCursor cursor = CursorConverter.cursorAfter(blog, "createdAt", Sort.Direction.DESC);
+
+        assertThat(CursorConverter.decode(CursorConverter.encode(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsTitleCursor() {
+        final BlogCursor cursor = new BlogCursor("title", Sort.Direction.ASC, "a|b\u0000c", "id-1");
+
+        assertThat(CursorConverter.decode(CursorConverter.encode(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsMissingValue() {
+        final BlogCursor cursor = new BlogCursor("updatedAt", Sort.Direction.DESC, null, "id-1");
+
+        assertThat(CursorConverter.decode(CursorConverter.encode(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> CursorConverter.decode("not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsUnknownSortField() {
+        assertThatThrownBy(() -> CursorConverter.requireSortField("content"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
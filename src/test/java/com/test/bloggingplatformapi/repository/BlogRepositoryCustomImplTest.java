@@ -0,0 +1,114 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.MongoServerTest;
+import com.test.bloggingplatformapi.converter.CursorConverter;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.ObjStatus;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.model.pagination.BlogCursor;
+import com.test.bloggingplatformapi.model.projection.BlogFields;
+import com.test.bloggingplatformapi.model.projection.BulkUpdateResult;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlogRepositoryCustomImplTest extends MongoServerTest {
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Test
+    void updateAllActiveOnlyWritesBlogsStillAtTheVersionRead() {
+        final Blog current = blogRepository.save(blog("current"));
+        final Blog stale = blogRepository.save(blog("stale"));
+        blogRepository.patchActive(stale.getId(), null, Blog.builder().title("written since").build());
+
+        final BulkUpdateResult result = blogRepository.updateAllActive(List.of(
+                changes(current.getId(), 0L),
+                changes(stale.getId(), 0L)));
+
+        assertThat(result.versions()).isEqualTo(Map.of(0, 1L));
+        assertThat(result.missed()).containsExactly(1);
+        assertThat(result.failures()).isEmpty();
+        assertThat(blogRepository.findById(current.getId()).orElseThrow().getTitle()).isEqualTo("bulk");
+        final Blog kept = blogRepository.findById(stale.getId()).orElseThrow();
+        assertThat(kept.getTitle()).isEqualTo("written since");
+        assertThat(kept.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void updateAllActiveDoesNotBringBackARemovedBlog() {
+        final String id = new ObjectId().toHexString();
+
+        final BulkUpdateResult result = blogRepository.updateAllActive(List.of(changes(id, 0L)));
+
+        assertThat(result.missed()).containsExactly(0);
+        assertThat(result.versions()).isEmpty();
+        assertThat(blogRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    void markAllDeletedReportsBlogsDeletedOrRemovedSinceTheyWereRead() {
+        final Blog kept = blogRepository.save(blog("kept"));
+        final Blog deleted = blogRepository.save(blog("deleted since"));
+        blogRepository.markDeleted(deleted.getId(), null);
+        final String removed = new ObjectId().toHexString();
+
+        final BulkUpdateResult result = blogRepository.markAllDeleted(List.of(
+                changes(kept.getId(), 0L),
+                changes(deleted.getId(), 0L),
+                changes(removed, 0L)));
+
+        assertThat(result.versions()).isEqualTo(Map.of(0, 1L));
+        assertThat(result.missed()).containsExactlyInAnyOrder(1, 2);
+        assertThat(blogRepository.findById(kept.getId()).orElseThrow().getObjStatus()).isEqualTo(ObjStatus.DELETED);
+        assertThat(blogRepository.findById(removed)).isEmpty();
+    }
+
+    @Test
+    void findPageAfterPagesThroughBlogsWithoutASortValue() {
+        final List<String> ids = new ArrayList<>();
+        for (String title : Arrays.asList(null, "a", null, "b")) {
+            ids.add(blogRepository.save(blog(title)).getId());
+        }
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            final List<String> seen = new ArrayList<>();
+            BlogCursor after = null;
+            List<Blog> page;
+            while (!(page = blogRepository.findPageAfter(null, "title", direction, after, 1, BlogFields.ALL)).isEmpty()) {
+                seen.add(page.get(0).getId());
+                after = CursorConverter.decode(CursorConverter.encode(
+                        CursorConverter.cursorAfter(page.get(0), "title", direction)));
+            }
+            assertThat(seen).as(direction.name()).containsExactlyInAnyOrderElementsOf(ids);
+        }
+    }
+
+    private static Blog blog(String title) {
+        return Blog.builder()
+                .title(title)
+                .content("content")
+                .category(Category.TECHNICAL)
+                .tags(Set.of(Tag.TECH))
+                .objStatus(ObjStatus.ACTIVE)
+                .build();
+    }
+
+    private static Blog changes(String id, Long version) {
+        final Blog blog = blog("bulk");
+        blog.setId(id);
+        blog.setVersion(version);
+        return blog;
+    }
+}
@@ -0,0 +1,31 @@
+package com.test.bloggingplatformapi.repository;
+
+import com.test.bloggingplatformapi.MongoServerTest;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlogSnapshotRepositoryCustomImplTest extends MongoServerTest {
+
+    @Autowired
+    private BlogSnapshotRepository blogSnapshotRepository;
+
+    @Test
+    void saveMarkerOnlyReplacesOlderSnapshots() {
+        final String id = new ObjectId().toHexString();
+
+        assertThat(blogSnapshotRepository.saveMarker(BlogSnapshot.marker(id, 1L))).isTrue();
+        blogSnapshotRepository.save(new BlogSnapshot(id, 2L, null, new byte[]{'{', '}'}));
+        assertThat(blogSnapshotRepository.saveMarker(BlogSnapshot.marker(id, 2L))).isFalse();
+        assertThat(blogSnapshotRepository.findById(id).orElseThrow().isMarker()).isFalse();
+
+        assertThat(blogSnapshotRepository.saveMarker(BlogSnapshot.marker(id, BlogSnapshot.DELETED))).isTrue();
+
+        final BlogSnapshot stored = blogSnapshotRepository.findById(id).orElseThrow();
+        assertThat(stored.isMarker()).isTrue();
+        assertThat(stored.getVersion()).isEqualTo(BlogSnapshot.DELETED);
+    }
+}
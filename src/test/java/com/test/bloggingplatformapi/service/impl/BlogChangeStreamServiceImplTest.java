@@ -0,0 +1,134 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.event.BlogChangedEvent;
+import com.test.bloggingplatformapi.model.event.BlogChangesLostEvent;
+import com.test.bloggingplatformapi.repository.ChangeStreamTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlogChangeStreamServiceImplTest {
+    private static final ObjectId ID = new ObjectId();
+    private static final long WALL_TIME = 1_700_000_000_000L;
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BlogProperties blogProperties = new BlogProperties();
+    private final BlogChangeStreamServiceImpl service = new BlogChangeStreamServiceImpl(mongoTemplate,
+            mock(ChangeStreamTokenRepository.class), eventPublisher, blogProperties, new SimpleMeterRegistry());
+
+    @Test
+    void handlePublishesTheVersionOfAnUpdate() {
+        assertThat(service.handle(change("update", null, new BsonDocument("version", new BsonInt64(3))))).isTrue();
+
+        verify(eventPublisher).publishEvent(new BlogChangedEvent(ID.toHexString(), 3L, false, Instant.ofEpochMilli(WALL_TIME)));
+        assertThat(service.getChangeStreamStats().events()).isEqualTo(1);
+    }
+
+    @Test
+    void handleReportsASoftDeleteAsRemoved() {
+        service.handle(change("update", null, new BsonDocument("version", new BsonInt64(4))
+                .append("ObjStatus", new BsonString("DELETED"))));
+
+        verify(eventPublisher).publishEvent(new BlogChangedEvent(ID.toHexString(), 4L, true, Instant.ofEpochMilli(WALL_TIME)));
+    }
+
+    @Test
+    void handleReadsAnInsertFromItsFullDocument() {
+        service.handle(change("insert", new Document("version", 0L).append("ObjStatus", "ACTIVE"), null));
+
+        verify(eventPublisher).publishEvent(new BlogChangedEvent(ID.toHexString(), 0L, false, Instant.ofEpochMilli(WALL_TIME)));
+    }
+
+    @Test
+    void handleReportsADeleteAsRemovedWithoutAVersion() {
+        service.handle(change("delete", null, null));
+
+        verify(eventPublisher).publishEvent(new BlogChangedEvent(ID.toHexString(), null, true, Instant.ofEpochMilli(WALL_TIME)));
+    }
+
+    @Test
+    void handleAsksForARestartWhenTheStreamIsInvalidated() {
+        assertThat(service.handle(change("invalidate", null, null))).isFalse();
+
+        verify(eventPublisher).publishEvent(any(BlogChangesLostEvent.class));
+        assertThat(service.getChangeStreamStats().events()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void aFailingListenerReopensTheStreamAndGetsTheEventAgain() {
+        final MongoCollection<Document> collection = mock(MongoCollection.class);
+        final ChangeStreamIterable<Document> stream = mock(ChangeStreamIterable.class);
+        final MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mock(MongoChangeStreamCursor.class);
+        when(mongoTemplate.getCollectionName(Blog.class)).thenReturn("blogs");
+        when(mongoTemplate.getCollection("blogs")).thenReturn(collection);
+        when(collection.watch(anyList())).thenReturn(stream);
+        when(stream.maxAwaitTime(anyLong(), any())).thenReturn(stream);
+        when(stream.cursor()).thenReturn(cursor);
+        final ChangeStreamDocument<Document> change = change("delete", null, null);
+        when(cursor.tryNext()).thenReturn(change, change, null);
+        doThrow(new IllegalStateException("listener failed")).doNothing()
+                .when(eventPublisher).publishEvent(any(BlogChangedEvent.class));
+        blogProperties.getChangeStream().setRetryDelay(Duration.ofMillis(10));
+
+        service.start();
+        try {
+            verify(eventPublisher, timeout(5000).times(2)).publishEvent(any(BlogChangedEvent.class));
+            assertThat(service.isRunning()).isTrue();
+            assertThat(service.getChangeStreamStats().restarts()).isEqualTo(1);
+            verify(stream, times(2)).cursor();
+        } finally {
+            service.stop();
+        }
+    }
+
+    private static ChangeStreamDocument<Document> change(String operation, Document fullDocument, BsonDocument updatedFields) {
+        return new ChangeStreamDocument<>(
+                operation,
+                new BsonDocument("_data", new BsonString("token")),
+                null,
+                null,
+                fullDocument,
+                null,
+                new BsonDocument("_id", new BsonObjectId(ID)),
+                new BsonTimestamp((int) (WALL_TIME / 1000), 1),
+                updatedFields == null ? null : new UpdateDescription(List.of(), updatedFields),
+                null,
+                null,
+                new BsonDateTime(WALL_TIME),
+                null,
+                null);
+    }
+}
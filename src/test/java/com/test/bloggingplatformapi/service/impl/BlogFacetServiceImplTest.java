@@ -0,0 +1,84 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.test.bloggingplatformapi.MongoServerTest;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.exception.ConflictException;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogFacetCounts;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.ObjStatus;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.repository.BlogFacetRepository;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlogFacetServiceImplTest extends MongoServerTest {
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private BlogFacetRepository blogFacetRepository;
+
+    @Autowired
+    private BlogProperties blogProperties;
+
+    @Test
+    void aRecountIsNotAddedToAgainByAnotherNode() throws InterruptedException {
+        final BlogFacetServiceImpl node = node();
+        final BlogFacetServiceImpl other = node();
+        node.reconcileFacets();
+        other.flush();
+        final long before = count(Category.SPORT);
+
+        // The other node counts a new blog but has not flushed it when this node recounts
+        final Blog blog = blogRepository.save(Blog.builder()
+                .title("counted twice?")
+                .content("content")
+                .category(Category.SPORT)
+                .tags(Set.of(Tag.TECH))
+                .objStatus(ObjStatus.ACTIVE)
+                .build());
+        other.created(blog);
+        node.reconcileFacets();
+        Thread.sleep(1000);
+        other.flush();
+
+        assertThat(count(Category.SPORT)).isEqualTo(before + 1);
+        assertThat(other.getFacets().categories().get(Category.SPORT)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void onlyOneNodeRecountsAtATime() {
+        final BlogFacetServiceImpl node = node();
+        node.flush();
+        final long epoch = blogFacetRepository.findById(BlogFacetCounts.ACTIVE_ID).orElseThrow().getEpoch();
+        assertThat(blogFacetRepository.lockRecount(BlogFacetCounts.ACTIVE_ID, "other", Duration.ofMinutes(1), null))
+                .isTrue();
+        try {
+            node.recountFacets();
+            assertThatThrownBy(node::reconcileFacets).isInstanceOf(ConflictException.class);
+            assertThat(blogFacetRepository.findById(BlogFacetCounts.ACTIVE_ID).orElseThrow().getEpoch())
+                    .isEqualTo(epoch);
+        } finally {
+            blogFacetRepository.unlockRecount(BlogFacetCounts.ACTIVE_ID, "other");
+        }
+    }
+
+    private BlogFacetServiceImpl node() {
+        return new BlogFacetServiceImpl(blogRepository, blogFacetRepository, blogProperties);
+    }
+
+    private long count(Category category) {
+        final Long count = blogFacetRepository.findById(BlogFacetCounts.ACTIVE_ID).orElseThrow()
+                .getCategories().get(category);
+        return count == null ? 0 : count;
+    }
+}
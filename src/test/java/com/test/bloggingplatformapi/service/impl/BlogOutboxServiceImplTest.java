@@ -0,0 +1,86 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.model.entity.BlogOutboxEntry;
+import com.test.bloggingplatformapi.model.enums.BlogOperation;
+import com.test.bloggingplatformapi.model.event.BlogMutationsEvent;
+import com.test.bloggingplatformapi.repository.BlogOutboxRepository;
+import com.test.bloggingplatformapi.repository.BlogSnapshotRepository;
+import com.test.bloggingplatformapi.service.BlogFacetService;
+import com.test.bloggingplatformapi.service.BlogSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlogOutboxServiceImplTest {
+
+    private final BlogOutboxRepository blogOutboxRepository = mock(BlogOutboxRepository.class);
+    private final List<String> counted = new ArrayList<>();
+
+    @Test
+    void aFailingEntryDoesNotHoldBackTheOthers() {
+        final BlogOutboxEntry failing = entry("failing", 1);
+        final BlogOutboxEntry other = entry("other", 1);
+        when(blogOutboxRepository.claim(anyInt(), any())).thenReturn(List.of(failing, other), List.of());
+
+        service().dispatch();
+
+        assertThat(counted).containsExactly("other");
+        verify(blogOutboxRepository).deleteAllById(List.of("other"));
+        verify(blogOutboxRepository, never()).deadLetter(any(), any());
+    }
+
+    @Test
+    void anEntryFailingOnEveryDeliveryIsDeadLettered() {
+        final BlogOutboxEntry failing = entry("failing", 5);
+        when(blogOutboxRepository.claim(anyInt(), any())).thenReturn(List.of(failing), List.of());
+
+        service().dispatch();
+
+        verify(blogOutboxRepository).deadLetter(failing, "blog_outbox_dead");
+        assertThat(failing.getError()).isEqualTo("Could not serialize blog failing");
+    }
+
+    /**
+     * A dispatcher whose consumers fail on any batch holding the blog "failing", and otherwise record the blogs.
+     */
+    @SuppressWarnings("unchecked")
+    private BlogOutboxServiceImpl service() {
+        final BlogProperties blogProperties = new BlogProperties();
+        blogProperties.getOutbox().setEnabled(true);
+        blogProperties.getOutbox().setBatchSize(10);
+        final ObjectProvider<MongoTransactionManager> transactionManager = mock(ObjectProvider.class);
+        when(transactionManager.getIfAvailable()).thenReturn(mock(MongoTransactionManager.class));
+        final ApplicationEventPublisher publisher = event -> {
+            final List<BlogOutboxEntry> entries = ((BlogMutationsEvent) event).entries();
+            if (entries.stream().anyMatch(entry -> entry.getBlogId().equals("failing"))) {
+                throw new IllegalStateException("Could not serialize blog failing");
+            }
+            entries.forEach(entry -> counted.add(entry.getBlogId()));
+        };
+        return new BlogOutboxServiceImpl(blogOutboxRepository, mock(BlogSnapshotService.class),
+                mock(BlogSnapshotRepository.class), mock(BlogFacetService.class), publisher, blogProperties,
+                transactionManager);
+    }
+
+    private static BlogOutboxEntry entry(String blogId, int attempts) {
+        return BlogOutboxEntry.builder()
+                .id(blogId)
+                .blogId(blogId)
+                .operation(BlogOperation.CREATED)
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,230 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.test.bloggingplatformapi.MongoServerTest;
+import com.test.bloggingplatformapi.cache.BlogCache;
+import com.test.bloggingplatformapi.cache.RequestCoalescer;
+import com.test.bloggingplatformapi.config.BlogProperties;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.req.BulkItemRes;
+import com.test.bloggingplatformapi.dtos.req.BulkRes;
+import com.test.bloggingplatformapi.dtos.res.BlogBulkUpdateReq;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
+import com.test.bloggingplatformapi.dtos.res.BlogReq;
+import com.test.bloggingplatformapi.exception.ConflictException;
+import com.test.bloggingplatformapi.exception.NotFoundException;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.enums.BulkItemStatus;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import com.test.bloggingplatformapi.repository.BlogSnapshotRepository;
+import com.test.bloggingplatformapi.service.BlogFacetService;
+import com.test.bloggingplatformapi.service.BlogOutboxService;
+import com.test.bloggingplatformapi.service.BlogService;
+import com.test.bloggingplatformapi.service.BlogSnapshotService;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class BlogServiceImplTest extends MongoServerTest {
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private BlogProperties blogProperties;
+
+    @Autowired
+    private BlogCache blogCache;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private BlogFacetService blogFacetService;
+
+    @Autowired
+    private BlogSnapshotService blogSnapshotService;
+
+    @Autowired
+    private BlogSnapshotRepository blogSnapshotRepository;
+
+    @Autowired
+    private BlogOutboxService blogOutboxService;
+
+    @Test
+    void bulkCreatedBlogsGetTheirDates() {
+        final BulkRes res = blogService.addBlogs(List.of(req("first"), req("second")));
+
+        assertThat(res.succeeded()).isEqualTo(2);
+        for (BulkItemRes item : res.items()) {
+            final Blog blog = blogRepository.findById(item.id()).orElseThrow();
+            assertThat(blog.getCreatedAt()).isNotNull();
+            assertThat(blog.getUpdatedAt()).isNotNull();
+            assertThat(blog.getVersion()).isZero();
+        }
+    }
+
+    @Test
+    void bulkUpdateReportsBlogsWrittenOrDeletedSinceTheyWereRead() {
+        final List<String> ids = blogService.addBlogs(List.of(req("kept"), req("written"), req("deleted")))
+                .items().stream().map(BulkItemRes::id).toList();
+        // Another request writes one blog and deletes another between the read of the bulk update and its write
+        final BlogService service = racingWith(() -> {
+            blogRepository.patchActive(ids.get(1), null, Blog.builder().title("concurrent").build());
+            blogRepository.markDeleted(ids.get(2), null);
+        });
+        final long educationBefore = blogFacetService.getFacets().categories().get(Category.EDUCATION);
+
+        final BulkRes res = service.updateBlogs(ids.stream().map(id -> update(id, "bulk")).toList());
+
+        assertThat(res.items()).extracting(BulkItemRes::status)
+                .containsExactly(BulkItemStatus.UPDATED, BulkItemStatus.CONFLICT, BulkItemStatus.NOT_FOUND);
+        assertThat(blogFacetService.getFacets().categories().get(Category.EDUCATION)).isEqualTo(educationBefore + 1);
+        assertThat(blogSnapshotRepository.findById(ids.get(0)).orElseThrow().getVersion()).isEqualTo(1L);
+        assertThat(blogSnapshotRepository.findById(ids.get(1))).isEmpty();
+        assertThat(blogRepository.findById(ids.get(1)).orElseThrow().getTitle()).isEqualTo("concurrent");
+    }
+
+    @Test
+    void bulkDeleteOnlyCountsBlogsItDeletedItself() {
+        final List<String> ids = blogService.addBlogs(List.of(req("deleted"), req("written"), req("deleted twice")))
+                .items().stream().map(BulkItemRes::id).toList();
+        // Another request writes one blog and deletes another between the read of the bulk delete and its write
+        final BlogService service = racingWith(() -> {
+            blogRepository.patchActive(ids.get(1), null, Blog.builder().title("concurrent").build());
+            blogService.deleteBlog(ids.get(2));
+        });
+        final long technicalBefore = blogFacetService.getFacets().categories().get(Category.TECHNICAL);
+
+        final BulkRes res = service.deleteBlogs(ids);
+
+        assertThat(res.items()).extracting(BulkItemRes::status)
+                .containsExactly(BulkItemStatus.DELETED, BulkItemStatus.CONFLICT, BulkItemStatus.NOT_FOUND);
+        // One by this bulk delete, one by the concurrent single delete
+        assertThat(blogFacetService.getFacets().categories().get(Category.TECHNICAL)).isEqualTo(technicalBefore - 2);
+        assertThat(blogRepository.findBlogActiveById(ids.get(1))).isPresent();
+    }
+
+    @Test
+    void bulkDeleteReportsARepeatedIdWhicheverChunkItFallsIn() {
+        final List<String> ids = blogService.addBlogs(List.of(req("first"), req("second")))
+                .items().stream().map(BulkItemRes::id).toList();
+        final int chunkSize = blogProperties.getBulk().getChunkSize();
+        blogProperties.getBulk().setChunkSize(2);
+        try {
+            final BulkRes res = blogService.deleteBlogs(List.of(ids.get(0), ids.get(0), ids.get(1), ids.get(0)));
+
+            assertThat(res.items()).extracting(BulkItemRes::status).containsExactly(
+                    BulkItemStatus.DELETED, BulkItemStatus.FAILED, BulkItemStatus.DELETED, BulkItemStatus.FAILED);
+        } finally {
+            blogProperties.getBulk().setChunkSize(chunkSize);
+        }
+    }
+
+    @Test
+    void updateOrPatchAtAStaleVersionIsAConflict() {
+        final BlogRes created = blogService.addBlog(req("versioned"));
+        blogService.patchBlog(created.id(), BlogPatchReq.builder().title("written since").build());
+        final BlogReq put = BlogReq.builder().title("put").content("content").category(Category.SPORT)
+                .version(created.version()).build();
+        final BlogPatchReq patch = BlogPatchReq.builder().title("patch").version(created.version()).build();
+
+        assertThatThrownBy(() -> blogService.updateBlog(created.id(), put)).isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> blogService.patchBlog(created.id(), patch)).isInstanceOf(ConflictException.class);
+        final Blog stored = blogRepository.findById(created.id()).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("written since");
+        assertThat(stored.getVersion()).isEqualTo(created.version() + 1);
+    }
+
+    @Test
+    void updateOrPatchOfAMissingOrDeletedBlogIsNotFound() {
+        final BlogRes deleted = blogService.addBlog(req("deleted"));
+        blogService.deleteBlog(deleted.id());
+        final BlogPatchReq patch = BlogPatchReq.builder().title("patch").version(deleted.version()).build();
+
+        for (String id : List.of(new ObjectId().toHexString(), deleted.id())) {
+            final BlogReq put = BlogReq.builder().title("put").content("content").category(Category.SPORT)
+                    .version(deleted.version()).build();
+            assertThatThrownBy(() -> blogService.updateBlog(id, put)).isInstanceOf(NotFoundException.class);
+            assertThatThrownBy(() -> blogService.patchBlog(id, patch)).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Test
+    void updateAtTheCurrentVersionBumpsIt() {
+        final BlogRes created = blogService.addBlog(req("versioned"));
+        final BlogPatchReq patch = BlogPatchReq.builder().title("patched").version(created.version()).build();
+
+        final BlogRes patched = blogService.patchBlog(created.id(), patch);
+
+        assertThat(patched.version()).isEqualTo(created.version() + 1);
+        assertThat(patched.content()).isEqualTo(created.content());
+    }
+
+    @Test
+    void updateReplacesTheBlogIncludingNullTags() {
+        final BlogRes created = blogService.addBlog(req("replaced"));
+        final BlogReq put = BlogReq.builder().title("put").content("content").category(Category.SPORT).tags(null).build();
+
+        final BlogRes updated = blogService.updateBlog(created.id(), put);
+
+        assertThat(updated.title()).isEqualTo("put");
+        assertThat(updated.tags()).isNull();
+        assertThat(updated.version()).isEqualTo(created.version() + 1);
+        final Blog stored = blogRepository.findById(created.id()).orElseThrow();
+        assertThat(stored.getTags()).isNull();
+        assertThat(updated.createdAt()).isEqualTo(stored.getCreatedAt());
+    }
+
+    /**
+     * A service whose first read of the ACTIVE blogs is followed by the given concurrent writes.
+     */
+    private BlogService racingWith(Runnable concurrent) {
+        final BlogRepository racing = mock(BlogRepository.class, delegatesTo(blogRepository));
+        doAnswer(invocation -> {
+            final Map<String, Blog> active = blogRepository.findActiveByIds(invocation.getArgument(0));
+            concurrent.run();
+            doAnswer(delegatesTo(blogRepository)).when(racing).findActiveByIds(any());
+            return active;
+        }).when(racing).findActiveByIds(any());
+        return new BlogServiceImpl(racing, blogProperties, blogCache, new RequestCoalescer<>(),
+                validator, blogFacetService, blogSnapshotService, blogOutboxService);
+    }
+
+    private static BlogBulkUpdateReq update(String id, String title) {
+        return BlogBulkUpdateReq.builder()
+                .id(id)
+                .blog(BlogReq.builder()
+                        .title(title)
+                        .content("content of " + title)
+                        .category(Category.EDUCATION)
+                        .tags(Set.of(Tag.TECH))
+                        .build())
+                .build();
+    }
+
+    private static BlogReq req(String title) {
+        return BlogReq.builder()
+                .title(title)
+                .content("content of " + title)
+                .category(Category.TECHNICAL)
+                .tags(Set.of(Tag.TECH))
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.test.bloggingplatformapi.converter.BlogConverter;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.model.entity.Blog;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.repository.BlogRepository;
+import com.test.bloggingplatformapi.repository.BlogSnapshotRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlogSnapshotServiceImplTest {
+
+    private final BlogSnapshotRepository blogSnapshotRepository = mock(BlogSnapshotRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final BlogSnapshotServiceImpl blogSnapshotService = new BlogSnapshotServiceImpl(blogSnapshotRepository,
+            mock(BlogRepository.class), objectMapper);
+
+    @Test
+    void snapshotIsTheConvertedBlogAtMillisecondPrecision() throws Exception {
+        final Blog blog = blog();
+        blog.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_456_789));
+
+        final BlogSnapshot snapshot = blogSnapshotService.materialize(blog);
+
+        assertThat(objectMapper.readValue(snapshot.getJson(), BlogRes.class))
+                .isEqualTo(BlogConverter.covertToDto(blog)
+                        .withCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_000_000)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void materializeFallsBackToAMarkerAtTheNewVersion() {
+        when(blogSnapshotRepository.saveAllIfNewer(any()))
+                .thenThrow(new DataAccessResourceFailureException("document too large"))
+                .thenReturn(1);
+
+        blogSnapshotService.materialize(blog());
+
+        final ArgumentCaptor<Collection<BlogSnapshot>> stored = ArgumentCaptor.forClass(Collection.class);
+        verify(blogSnapshotRepository, times(2)).saveAllIfNewer(stored.capture());
+        final BlogSnapshot marker = List.copyOf(stored.getAllValues().get(1)).get(0);
+        assertThat(marker.isMarker()).isTrue();
+        assertThat(marker.getId()).isEqualTo("blog");
+        assertThat(marker.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void materializeThrowsWhenNeitherTheSnapshotNorAMarkerIsStored() {
+        when(blogSnapshotRepository.saveAllIfNewer(any()))
+                .thenThrow(new DataAccessResourceFailureException("snapshot"))
+                .thenThrow(new DataAccessResourceFailureException("marker"));
+
+        assertThatThrownBy(() -> blogSnapshotService.materialize(blog()))
+                .hasMessage("snapshot")
+                .satisfies(ex -> assertThat(ex.getSuppressed()).extracting(Throwable::getMessage)
+                        .containsExactly("marker"));
+    }
+
+    private static Blog blog() {
+        return Blog.builder()
+                .id("blog")
+                .title("title")
+                .content("content")
+                .category(Category.EDUCATION)
+                .version(3L)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.test.bloggingplatformapi.service.impl;
+
+import com.test.bloggingplatformapi.MongoServerTest;
+import com.test.bloggingplatformapi.dtos.req.BlogRes;
+import com.test.bloggingplatformapi.dtos.res.BlogPatchReq;
+import com.test.bloggingplatformapi.dtos.res.BlogReq;
+import com.test.bloggingplatformapi.model.entity.BlogSnapshot;
+import com.test.bloggingplatformapi.model.enums.Category;
+import com.test.bloggingplatformapi.model.enums.Tag;
+import com.test.bloggingplatformapi.service.ReactiveBlogService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("reactive")
+class ReactiveBlogServiceImplTest extends MongoServerTest {
+
+    @Autowired
+    private ReactiveBlogService reactiveBlogService;
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Test
+    void createdBlogsGetTheirDates() {
+        final BlogRes blog = reactiveBlogService.addBlog(req()).block();
+
+        assertThat(blog).isNotNull();
+        assertThat(blog.createdAt()).isNotNull();
+        assertThat(blog.updatedAt()).isNotNull();
+    }
+
+    @Test
+    void writesReplaceTheServletSnapshotWithMarkers() {
+        final BlogRes blog = reactiveBlogService.addBlog(req()).block();
+        assertThat(blog).isNotNull();
+        reactiveMongoTemplate.save(new BlogSnapshot(blog.id(), blog.version(), blog.updatedAt(), new byte[]{'{', '}'}))
+                .block();
+
+        reactiveBlogService.patchBlog(blog.id(), BlogPatchReq.builder().title("patched").build()).block();
+
+        final BlogSnapshot patched = reactiveMongoTemplate.findById(blog.id(), BlogSnapshot.class).block();
+        assertThat(patched).isNotNull();
+        assertThat(patched.isMarker()).isTrue();
+        assertThat(patched.getVersion()).isEqualTo(blog.version() + 1);
+
+        reactiveBlogService.deleteBlog(blog.id()).block();
+
+        final BlogSnapshot deleted = reactiveMongoTemplate.findById(blog.id(), BlogSnapshot.class).block();
+        assertThat(deleted).isNotNull();
+        assertThat(deleted.getVersion()).isEqualTo(BlogSnapshot.DELETED);
+    }
+
+    @Test
+    void updateReplacesTheBlogIncludingNullTags() {
+        final BlogRes blog = reactiveBlogService.addBlog(req()).block();
+        assertThat(blog).isNotNull();
+        final BlogReq put = BlogReq.builder().title("put").content("content").category(Category.SPORT).tags(null).build();
+
+        final BlogRes updated = reactiveBlogService.updateBlog(blog.id(), put).block();
+
+        assertThat(updated).isNotNull();
+        assertThat(updated.tags()).isNull();
+        assertThat(updated.version()).isEqualTo(blog.version() + 1);
+    }
+
+    private static BlogReq req() {
+        return BlogReq.builder()
+                .title("reactive")
+                .content("content")
+                .category(Category.EDUCATION)
+                .tags(Set.of(Tag.PROGRAMMING))
+                .build();
+    }
+}